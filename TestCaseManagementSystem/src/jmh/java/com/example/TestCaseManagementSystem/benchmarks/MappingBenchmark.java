@@ -0,0 +1,83 @@
+package com.example.TestCaseManagementSystem.benchmarks;
+
+import com.example.TestCaseManagementSystem.dtos.TestCaseDto;
+import com.example.TestCaseManagementSystem.dtos.TestCaseRequestDto;
+import com.example.TestCaseManagementSystem.entities.TestCase;
+import com.example.TestCaseManagementSystem.enums.TestPriority;
+import com.example.TestCaseManagementSystem.enums.TestStatus;
+import com.example.TestCaseManagementSystem.mappers.TestCaseMapper;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-object cost of the hand-written {@link TestCaseMapper} against the ModelMapper setup it replaced.
+ * Run with {@code -prof gc} to compare allocation per operation as well.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class MappingBenchmark {
+
+    private ModelMapper modelMapper;
+    private TestCaseMapper mapper;
+    private TestCase testCase;
+    private TestCaseRequestDto requestDto;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapper();
+        mapper = new TestCaseMapper();
+        testCase = TestCase.builder()
+                .id("6600d4d2f8a7d")
+                .title("Login Test")
+                .description("Verify user login functionality")
+                .status(TestStatus.PENDING)
+                .priority(TestPriority.HIGH)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+        requestDto = new TestCaseRequestDto();
+        requestDto.setTitle("Login Test");
+        requestDto.setDescription("Verify user login functionality");
+        requestDto.setStatus(TestStatus.PASSED);
+        requestDto.setPriority(TestPriority.MEDIUM);
+    }
+
+    @Benchmark
+    public TestCaseDto toDtoModelMapper() {
+        return modelMapper.map(testCase, TestCaseDto.class);
+    }
+
+    @Benchmark
+    public TestCaseDto toDtoMapper() {
+        return mapper.toDto(testCase);
+    }
+
+    @Benchmark
+    public TestCase toEntityModelMapper() {
+        return modelMapper.map(requestDto, TestCase.class);
+    }
+
+    @Benchmark
+    public TestCase toEntityMapper() {
+        return mapper.toEntity(requestDto);
+    }
+
+    @Benchmark
+    public TestCase updateEntityModelMapper() {
+        modelMapper.map(requestDto, testCase);
+        return testCase;
+    }
+
+    @Benchmark
+    public TestCase updateEntityMapper() {
+        mapper.updateEntity(requestDto, testCase);
+        return testCase;
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.TestCaseManagementSystem.benchmarks;
+
+import com.example.TestCaseManagementSystem.apiresponses.NumberedPage;
+import com.example.TestCaseManagementSystem.apiresponses.StandardApiResponse;
+import com.example.TestCaseManagementSystem.dtos.TestCaseDto;
+import com.example.TestCaseManagementSystem.mappers.TestCaseMapper;
+import com.example.TestCaseManagementSystem.services.TestCaseJsonCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of the list response as the controller returns it ({@code envelope=spliced}, test cases
+ * copied from a warm {@link TestCaseJsonCache}), with every test case serialized ({@code envelope=numbered}) and as
+ * it was before the lean envelope ({@code envelope=page}, a serialized {@code PageImpl}), in each negotiable format.
+ * Smile and CBOR do not splice, so {@code spliced} equals {@code numbered} for them. The encoded size of every
+ * combination is printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class SerializationBenchmark {
+
+    @Param({"10", "100"})
+    private int pageSize;
+
+    @Param({"page", "numbered", "spliced"})
+    private String envelope;
+
+    @Param({"json", "smile", "cbor"})
+    private String format;
+
+    private ObjectWriter writer;
+    private StandardApiResponse<?> response;
+
+    @Setup
+    public void setUp() throws Exception {
+        // Same defaults Spring Boot applies to its ObjectMapper (java.time support, ISO dates)
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        writer = switch (format) {
+            case "smile" -> objectMapper.copyWith(new SmileFactory()).writer();
+            case "cbor" -> objectMapper.copyWith(new CBORFactory()).writer();
+            default -> objectMapper.writer();
+        };
+        TestCaseMapper mapper = new TestCaseMapper();
+        Page<TestCaseDto> page = new PageImpl<>(
+                StubTestCaseRepository.testCases(pageSize).stream().map(mapper::toDto).toList(),
+                PageRequest.of(0, pageSize),
+                StubTestCaseRepository.TOTAL);
+        TestCaseJsonCache jsonCache = new TestCaseJsonCache(objectMapper, 10_000);
+        Object body = switch (envelope) {
+            case "page" -> page;
+            case "spliced" -> NumberedPage.of(page.map(jsonCache::wrap));
+            default -> NumberedPage.of(page);
+        };
+        response = new StandardApiResponse<>((int) page.getTotalElements(), 200, "Test cases retrieved successfully", body);
+        System.out.printf("%n%s/%s/%d: %d bytes%n", envelope, format, pageSize, writer.writeValueAsBytes(response).length);
+    }
+
+    @Benchmark
+    public byte[] serializeListResponse() throws Exception {
+        return writer.writeValueAsBytes(response);
+    }
+}
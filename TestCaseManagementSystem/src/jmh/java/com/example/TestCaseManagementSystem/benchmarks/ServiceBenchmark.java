@@ -0,0 +1,99 @@
+package com.example.TestCaseManagementSystem.benchmarks;
+
+import com.example.TestCaseManagementSystem.dtos.TestCaseDto;
+import com.example.TestCaseManagementSystem.dtos.TestCaseRequestDto;
+import com.example.TestCaseManagementSystem.enums.TestPriority;
+import com.example.TestCaseManagementSystem.enums.TestStatus;
+import com.example.TestCaseManagementSystem.mappers.TestCaseMapper;
+import com.example.TestCaseManagementSystem.repositories.TestCaseRepository;
+import com.example.TestCaseManagementSystem.services.TestCaseCache;
+import com.example.TestCaseManagementSystem.services.TestCaseCounts;
+import com.example.TestCaseManagementSystem.services.TestCaseMetrics;
+import com.example.TestCaseManagementSystem.services.TestCasePageCache;
+import com.example.TestCaseManagementSystem.services.TestCaseService;
+import com.example.TestCaseManagementSystem.services.TestCaseTitleIndex;
+import com.example.TestCaseManagementSystem.services.TestCaseWriteBehindBuffer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service hot paths over {@link StubTestCaseRepository}: list pages, single lookups and creates. The list and lookup
+ * benchmarks invalidate their cache entry first, so every call loads and maps through the service as it did before
+ * the caches were added and results stay comparable with earlier runs; the {@code Cached} variants measure hits.
+ * Creates add every new test case to the title index and the count matrix, so the service and its in-memory state
+ * are rebuilt before each iteration and later iterations do not measure a larger index than earlier ones.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class ServiceBenchmark {
+
+    private static final String TEST_CASE_ID = "6600d4d2f8a7d00000000000";
+
+    @Param({"10", "100"})
+    private int pageSize;
+
+    private TestCaseRepository repository;
+    private TestCaseService service;
+    private TestCaseCache cache;
+    private TestCasePageCache pageCache;
+    private PageRequest pageRequest;
+    private TestCaseRequestDto requestDto;
+
+    @Setup
+    public void setUp() {
+        repository = StubTestCaseRepository.create(StubTestCaseRepository.testCases(pageSize));
+        pageRequest = PageRequest.of(0, pageSize);
+        requestDto = new TestCaseRequestDto();
+        requestDto.setTitle("Login Test");
+        requestDto.setDescription("Verify user login functionality");
+        requestDto.setStatus(TestStatus.PENDING);
+        requestDto.setPriority(TestPriority.HIGH);
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpService() {
+        TestCaseCounts counts = new TestCaseCounts(repository);
+        cache = new TestCaseCache(10_000, Duration.ofMinutes(10));
+        pageCache = new TestCasePageCache(1_000, Duration.ofMinutes(1));
+        TestCaseTitleIndex titleIndex = new TestCaseTitleIndex(repository, 1_000);
+        service = new TestCaseService(repository, new TestCaseMapper(), counts, cache, pageCache, titleIndex,
+                new TestCaseWriteBehindBuffer(repository, counts, cache, pageCache, titleIndex, false, 10_000),
+                new TestCaseMetrics(new SimpleMeterRegistry()), 3);
+    }
+
+    @Benchmark
+    public Page<TestCaseDto> getTestCases() {
+        pageCache.invalidate(TestStatus.FAILED, TestPriority.HIGH);
+        return service.getTestCases(TestStatus.FAILED, TestPriority.HIGH, pageRequest);
+    }
+
+    @Benchmark
+    public Page<TestCaseDto> getTestCasesCached() {
+        return service.getTestCases(TestStatus.FAILED, TestPriority.HIGH, pageRequest);
+    }
+
+    @Benchmark
+    public TestCaseDto getTestCaseById() {
+        cache.invalidate(TEST_CASE_ID);
+        return service.getTestCaseById(TEST_CASE_ID);
+    }
+
+    @Benchmark
+    public TestCaseDto getTestCaseByIdCached() {
+        return service.getTestCaseById(TEST_CASE_ID);
+    }
+
+    @Benchmark
+    public TestCaseDto createTestCase() {
+        return service.createTestCase(requestDto);
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.TestCaseManagementSystem.benchmarks;
+
+import com.example.TestCaseManagementSystem.entities.TestCase;
+import com.example.TestCaseManagementSystem.enums.TestPriority;
+import com.example.TestCaseManagementSystem.enums.TestStatus;
+import com.example.TestCaseManagementSystem.repositories.TestCaseRepository;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * In-process stand-in for {@link TestCaseRepository} that answers from a fixed, deterministic data set, so the
+ * service benchmarks measure mapping and service overhead rather than Mongo round trips.
+ */
+final class StubTestCaseRepository {
+
+    static final long TOTAL = 10_000;
+
+    private StubTestCaseRepository() {
+    }
+
+    static List<TestCase> testCases(int count) {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 24, 21, 0);
+        List<TestCase> testCases = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            testCases.add(TestCase.builder()
+                    .id(String.format("6600d4d2f8a7d%011d", i))
+                    .title("Test Case " + i)
+                    .description("Verify behaviour number " + i + " of the checkout flow end to end")
+                    .status(TestStatus.values()[i % TestStatus.values().length])
+                    .priority(TestPriority.values()[i % TestPriority.values().length])
+                    .createdAt(createdAt.plusMinutes(i))
+                    .updatedAt(createdAt.plusMinutes(i))
+                    .version(0L)
+                    .build());
+        }
+        return testCases;
+    }
+
+    static TestCaseRepository create(List<TestCase> data) {
+        return (TestCaseRepository) Proxy.newProxyInstance(
+                TestCaseRepository.class.getClassLoader(),
+                new Class<?>[]{TestCaseRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findAll", "findByStatus", "findByPriority", "findByStatusAndPriority" ->
+                            new PageImpl<>(window(data, (Pageable) args[args.length - 1]), (Pageable) args[args.length - 1], TOTAL);
+                    case "readAllBy", "readByStatus", "readByPriority", "readByStatusAndPriority" ->
+                            new SliceImpl<>(window(data, (Pageable) args[args.length - 1]), (Pageable) args[args.length - 1], true);
+                    case "findById", "findAndRemoveById" -> Optional.of(data.get(0));
+                    case "save" -> {
+                        // Mongo assigns the id of a new document on insert
+                        TestCase testCase = (TestCase) args[0];
+                        if (testCase.getId() == null) {
+                            testCase.setId(new ObjectId().toHexString());
+                        }
+                        yield testCase;
+                    }
+                    case "estimatedCount", "count" -> TOTAL;
+                    case "countGroupedByStatusAndPriority" -> Collections.emptyList();
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "StubTestCaseRepository";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static List<TestCase> window(List<TestCase> data, Pageable pageable) {
+        return data.subList(0, Math.min(pageable.getPageSize(), data.size()));
+    }
+}
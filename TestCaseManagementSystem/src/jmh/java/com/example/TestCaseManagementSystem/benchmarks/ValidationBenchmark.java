@@ -0,0 +1,58 @@
+package com.example.TestCaseManagementSystem.benchmarks;
+
+import com.example.TestCaseManagementSystem.dtos.TestCaseRequestDto;
+import com.example.TestCaseManagementSystem.enums.TestPriority;
+import com.example.TestCaseManagementSystem.enums.TestStatus;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bean Validation of {@link TestCaseRequestDto}, for both an accepted and a rejected request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class ValidationBenchmark {
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private TestCaseRequestDto valid;
+    private TestCaseRequestDto invalid;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        valid = new TestCaseRequestDto();
+        valid.setTitle("Login Test");
+        valid.setDescription("Verify user login functionality");
+        valid.setStatus(TestStatus.PENDING);
+        valid.setPriority(TestPriority.HIGH);
+        invalid = new TestCaseRequestDto();
+        invalid.setTitle(" ");
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<TestCaseRequestDto>> validateAccepted() {
+        return validator.validate(valid);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<TestCaseRequestDto>> validateRejected() {
+        return validator.validate(invalid);
+    }
+}
@@ -0,0 +1,31 @@
+#!/usr/bin/env bash
+# Compares platform and virtual request threads on the list and get-by-id endpoints.
+# Starts the packaged application once per mode against the same MongoDB and runs the same load against each.
+# Needs a Java 21 runtime for the virtual-threads run; MONGODB_URI, PORT, CONCURRENCY and DURATION are optional.
+set -euo pipefail
+cd "$(dirname "$0")/../.."
+
+PORT=${PORT:-8080}
+CONCURRENCY=${CONCURRENCY:-1024}
+DURATION=${DURATION:-PT60S}
+BASE="http://localhost:${PORT}/api/testcases"
+
+mvn -B -q -DskipTests package
+JAR=$(ls target/TestCaseManagementSystem-*.jar | head -n 1)
+
+for profile in default virtual-threads; do
+  java -jar "$JAR" --spring.profiles.active="$profile" --server.port="$PORT" --logging.level.root=WARN \
+    ${MONGODB_URI:+--spring.data.mongodb.uri="$MONGODB_URI"} &
+  app=$!
+  trap 'kill $app 2>/dev/null || true' EXIT
+  until curl -sf "${BASE}?size=1" > /dev/null; do sleep 1; done
+
+  for url in "${BASE}?status=FAILED&size=10" "${BASE}/{id}"; do
+    echo "== ${profile}: ${url}"
+    mvn -B -q -Pload verify -Dload.url="$url" -Dload.ids-from="${BASE}?size=100" \
+      -Dload.concurrency="$CONCURRENCY" -Dload.duration="$DURATION"
+  done
+
+  kill "$app"
+  wait "$app" || true
+done
@@ -0,0 +1,172 @@
+package com.example.TestCaseManagementSystem.load;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Pattern;
+
+/**
+ * Closed-loop HTTP load generator for comparing deployment profiles of a running instance. Each of
+ * {@code --concurrency} virtual users sends a GET, waits for the response and immediately sends the next one,
+ * cycling through the comma-separated {@code --url} list. Responses completed during {@code --warmup} are
+ * discarded; for the following {@code --duration} it reports throughput and latency percentiles. A {@code {id}}
+ * placeholder in a URL is filled from the test case ids returned by {@code --ids-from} before the run starts.
+ *
+ * <pre>
+ * mvn -Pload verify -Dload.url="http://localhost:8080/api/testcases?size=10" -Dload.concurrency=512
+ * </pre>
+ */
+public class LoadDriver {
+
+    private static final String ID_PLACEHOLDER = "{id}";
+    private static final Pattern ID_PATTERN = Pattern.compile("\"id\":\"([0-9a-f]{24})\"");
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        List<String> urls = Arrays.stream(options.getOrDefault("url", "http://localhost:8080/api/testcases").split(","))
+                .map(String::trim)
+                .toList();
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "256"));
+        Duration warmup = Duration.parse(options.getOrDefault("warmup", "PT10S"));
+        Duration duration = Duration.parse(options.getOrDefault("duration", "PT30S"));
+
+        ExecutorService callbacks = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(callbacks)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        List<URI> uris = resolve(client, urls, options.getOrDefault("ids-from", "http://localhost:8080/api/testcases?size=100"));
+
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long measureUntil = measureFrom + duration.toNanos();
+        CountDownLatch done = new CountDownLatch(concurrency);
+        List<User> users = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            User user = new User(client, uris, i, measureFrom, measureUntil, done);
+            users.add(user);
+            user.next();
+        }
+        done.await();
+        callbacks.shutdown();
+
+        long[] latencies = users.stream().flatMapToLong(user -> Arrays.stream(user.latencies, 0, user.recorded)).sorted().toArray();
+        long errors = users.stream().mapToLong(user -> user.errors).sum();
+        double seconds = duration.toNanos() / 1e9;
+        System.out.printf("urls         %s%n", urls);
+        System.out.printf("concurrency  %d%n", concurrency);
+        System.out.printf("requests     %d (%d errors)%n", latencies.length, errors);
+        System.out.printf("throughput   %.1f req/s%n", latencies.length / seconds);
+        System.out.printf("latency ms   p50 %.2f  p90 %.2f  p99 %.2f  p99.9 %.2f  max %.2f%n",
+                percentile(latencies, 50), percentile(latencies, 90), percentile(latencies, 99),
+                percentile(latencies, 99.9), percentile(latencies, 100));
+    }
+
+    private static List<URI> resolve(HttpClient client, List<String> urls, String idsFrom) throws Exception {
+        if (urls.stream().noneMatch(url -> url.contains(ID_PLACEHOLDER))) {
+            return urls.stream().map(URI::create).toList();
+        }
+        String page = client.send(HttpRequest.newBuilder(URI.create(idsFrom)).GET().build(),
+                HttpResponse.BodyHandlers.ofString()).body();
+        List<String> ids = ID_PATTERN.matcher(page).results().map(match -> match.group(1)).toList();
+        if (ids.isEmpty()) {
+            throw new IllegalStateException("No test case ids found at " + idsFrom);
+        }
+        List<URI> uris = new ArrayList<>();
+        for (String id : ids) {
+            for (String url : urls) {
+                uris.add(URI.create(url.replace(ID_PLACEHOLDER, id)));
+            }
+        }
+        return uris;
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return Double.NaN;
+        }
+        int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1e6;
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("Expected --option value pairs but got " + args[i]);
+            }
+            if (!args[i + 1].isBlank()) {
+                options.put(args[i].substring(2), args[i + 1]);
+            }
+        }
+        return options;
+    }
+
+    /**
+     * One request at a time, chained on the client's callback threads. Callbacks of a single user never overlap,
+     * so its latency buffer needs no synchronisation; the final latch count-down publishes it to the main thread.
+     */
+    private static final class User {
+
+        private final HttpClient client;
+        private final List<URI> uris;
+        private final long measureFrom;
+        private final long measureUntil;
+        private final CountDownLatch done;
+        private int cursor;
+        private long[] latencies = new long[1024];
+        private int recorded;
+        private long errors;
+
+        User(HttpClient client, List<URI> uris, int offset, long measureFrom, long measureUntil, CountDownLatch done) {
+            this.client = client;
+            this.uris = uris;
+            this.cursor = offset;
+            this.measureFrom = measureFrom;
+            this.measureUntil = measureUntil;
+            this.done = done;
+        }
+
+        void next() {
+            long sent = System.nanoTime();
+            if (sent >= measureUntil) {
+                done.countDown();
+                return;
+            }
+            HttpRequest request = HttpRequest.newBuilder(uris.get(cursor++ % uris.size()))
+                    .timeout(Duration.ofSeconds(30))
+                    .GET()
+                    .build();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, failure) -> {
+                        long received = System.nanoTime();
+                        if (sent >= measureFrom && received <= measureUntil) {
+                            if (failure != null || response.statusCode() >= 400) {
+                                errors++;
+                            } else {
+                                record(received - sent);
+                            }
+                        }
+                        next();
+                    });
+        }
+
+        private void record(long latency) {
+            if (recorded == latencies.length) {
+                latencies = Arrays.copyOf(latencies, recorded * 2);
+            }
+            latencies[recorded++] = latency;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.TestCaseManagementSystem.apiresponses;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class CursorPage<T> {
+    private List<T> content;
+    private int size;
+    private String nextCursor;
+
+    public CursorPage(List<T> content, int size, String nextCursor) {
+        this.content = content;
+        this.size = size;
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasNext() {
+        return nextCursor != null;
+    }
+}
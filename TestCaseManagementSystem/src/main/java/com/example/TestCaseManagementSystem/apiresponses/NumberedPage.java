@@ -0,0 +1,34 @@
+package com.example.TestCaseManagementSystem.apiresponses;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+/**
+ * Page-number window of a listing. Unlike a serialized {@link Page} it carries no pageable, sort or derived flags,
+ * only the fields a client needs to page on; their names match the ones {@code PageImpl} produced.
+ */
+@Getter
+@Setter
+public class NumberedPage<T> {
+    private List<T> content;
+    private int number;
+    private int size;
+    private long totalElements;
+    private int totalPages;
+
+    public NumberedPage(List<T> content, int number, int size, long totalElements, int totalPages) {
+        this.content = content;
+        this.number = number;
+        this.size = size;
+        this.totalElements = totalElements;
+        this.totalPages = totalPages;
+    }
+
+    public static <T> NumberedPage<T> of(Page<T> page) {
+        return new NumberedPage<>(page.getContent(), page.getNumber(), page.getSize(), page.getTotalElements(),
+                page.getTotalPages());
+    }
+}
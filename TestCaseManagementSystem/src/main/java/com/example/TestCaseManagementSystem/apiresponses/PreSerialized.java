@@ -0,0 +1,141 @@
+package com.example.TestCaseManagementSystem.apiresponses;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.json.UTF8JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+
+/**
+ * A response value whose JSON form may already be encoded. A UTF-8 JSON response copies those bytes into its output
+ * as they are; Smile and CBOR responses, and values without an encoded form, serialize the value as usual.
+ */
+@JsonSerialize(using = PreSerialized.Serializer.class)
+public final class PreSerialized<T> {
+
+    private final T value;
+    // Returns the UTF-8 JSON of value, or null to serialize it normally
+    private final Supplier<byte[]> json;
+
+    public PreSerialized(T value, Supplier<byte[]> json) {
+        this.value = value;
+        this.json = json;
+    }
+
+    public T getValue() {
+        return value;
+    }
+
+    static class Serializer extends JsonSerializer<PreSerialized<?>> {
+
+        @Override
+        public void serialize(PreSerialized<?> preSerialized, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            byte[] json = gen instanceof UTF8JsonGenerator ? preSerialized.json.get() : null;
+            if (json == null) {
+                provider.defaultSerializeValue(preSerialized.value, gen);
+            } else {
+                gen.writeRawValue(new Utf8Json(json));
+            }
+        }
+    }
+
+    /**
+     * Only the UTF-8 generator writes this, through {@link #appendUnquotedUTF8} or {@link #asUnquotedUTF8}; the
+     * character-based methods decode on demand, and the quoted forms are those of a {@link SerializedString} of the
+     * decoded JSON.
+     */
+    private record Utf8Json(byte[] bytes) implements SerializableString {
+
+        @Override
+        public String getValue() {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public int charLength() {
+            return getValue().length();
+        }
+
+        @Override
+        public char[] asQuotedChars() {
+            return quoted().asQuotedChars();
+        }
+
+        @Override
+        public byte[] asUnquotedUTF8() {
+            return bytes;
+        }
+
+        @Override
+        public byte[] asQuotedUTF8() {
+            return quoted().asQuotedUTF8();
+        }
+
+        @Override
+        public int appendQuotedUTF8(byte[] buffer, int offset) {
+            return quoted().appendQuotedUTF8(buffer, offset);
+        }
+
+        @Override
+        public int appendQuoted(char[] buffer, int offset) {
+            return quoted().appendQuoted(buffer, offset);
+        }
+
+        @Override
+        public int appendUnquotedUTF8(byte[] buffer, int offset) {
+            if (offset + bytes.length > buffer.length) {
+                return -1;
+            }
+            System.arraycopy(bytes, 0, buffer, offset, bytes.length);
+            return bytes.length;
+        }
+
+        @Override
+        public int appendUnquoted(char[] buffer, int offset) {
+            String value = getValue();
+            if (offset + value.length() > buffer.length) {
+                return -1;
+            }
+            value.getChars(0, value.length(), buffer, offset);
+            return value.length();
+        }
+
+        @Override
+        public int writeQuotedUTF8(OutputStream out) throws IOException {
+            return quoted().writeQuotedUTF8(out);
+        }
+
+        @Override
+        public int writeUnquotedUTF8(OutputStream out) throws IOException {
+            out.write(bytes);
+            return bytes.length;
+        }
+
+        @Override
+        public int putQuotedUTF8(ByteBuffer buffer) {
+            return quoted().putQuotedUTF8(buffer);
+        }
+
+        @Override
+        public int putUnquotedUTF8(ByteBuffer buffer) {
+            if (bytes.length > buffer.remaining()) {
+                return -1;
+            }
+            buffer.put(bytes);
+            return bytes.length;
+        }
+
+        private SerializedString quoted() {
+            return new SerializedString(getValue());
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.TestCaseManagementSystem.apiresponses;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * Window of a change feed. Unlike {@link CursorPage} the next cursor is set even on the last window: it is the
+ * watermark a client stores to resume the feed later, while {@code hasMore} says whether to keep reading now.
+ */
+@Getter
+@Setter
+public class SyncPage<T> {
+    private List<T> content;
+    private int size;
+    private String nextCursor;
+    private boolean hasMore;
+
+    public SyncPage(List<T> content, int size, String nextCursor, boolean hasMore) {
+        this.content = content;
+        this.size = size;
+        this.nextCursor = nextCursor;
+        this.hasMore = hasMore;
+    }
+}
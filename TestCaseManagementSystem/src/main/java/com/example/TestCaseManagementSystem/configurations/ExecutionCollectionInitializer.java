@@ -0,0 +1,26 @@
+package com.example.TestCaseManagementSystem.configurations;
+
+import com.example.TestCaseManagementSystem.repositories.TestExecutionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mongo creates a regular collection on the first insert, and a collection cannot be turned into a time-series
+ * collection afterwards. Create it explicitly before the web server starts taking writes.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ExecutionCollectionInitializer implements SmartInitializingSingleton {
+
+    private final TestExecutionRepository repository;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (repository.createCollectionIfMissing()) {
+            log.info("Created the test execution time-series collection");
+        }
+    }
+}
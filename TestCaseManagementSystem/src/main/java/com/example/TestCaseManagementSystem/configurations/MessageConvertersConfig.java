@@ -0,0 +1,127 @@
+package com.example.TestCaseManagementSystem.configurations;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Jackson converters for JSON and, when a client sends {@code Accept: application/x-jackson-smile} or
+ * {@code application/cbor}, the Smile and CBOR binary encodings. The binary mappers are copies of Boot's JSON
+ * {@link ObjectMapper}, so modules and date handling are identical across formats. Each converter replaces Boot's
+ * default of the same type and times response serialization as {@code http.serialization}, tagged with the format
+ * and body type.
+ */
+@Configuration
+public class MessageConvertersConfig {
+
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper,
+                                                                                   MeterRegistry registry) {
+        return new TimedJsonConverter(objectMapper, new SerializationTimer(registry, "json"));
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter mappingJackson2SmileHttpMessageConverter(ObjectMapper objectMapper,
+                                                                                             MeterRegistry registry) {
+        return new TimedSmileConverter(objectMapper.copyWith(new SmileFactory()), new SerializationTimer(registry, "smile"));
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter mappingJackson2CborHttpMessageConverter(ObjectMapper objectMapper,
+                                                                                           MeterRegistry registry) {
+        return new TimedCborConverter(objectMapper.copyWith(new CBORFactory()), new SerializationTimer(registry, "cbor"));
+    }
+
+    static final class SerializationTimer {
+
+        private final MeterRegistry registry;
+        private final String format;
+        private final Map<Class<?>, Timer> timers = new ConcurrentHashMap<>();
+
+        SerializationTimer(MeterRegistry registry, String format) {
+            this.registry = registry;
+            this.format = format;
+        }
+
+        void record(Object body, Write write) throws IOException {
+            Timer.Sample sample = Timer.start(registry);
+            try {
+                write.run();
+            } finally {
+                sample.stop(timers.computeIfAbsent(body.getClass(), bodyType -> Timer.builder("http.serialization")
+                        .description("Time spent writing response bodies")
+                        .tag("format", format)
+                        .tag("body", bodyType.getSimpleName())
+                        .publishPercentileHistogram()
+                        .register(registry)));
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface Write {
+        void run() throws IOException;
+    }
+
+    static class TimedJsonConverter extends MappingJackson2HttpMessageConverter {
+
+        private final SerializationTimer timer;
+
+        TimedJsonConverter(ObjectMapper objectMapper, SerializationTimer timer) {
+            super(objectMapper);
+            this.timer = timer;
+        }
+
+        @Override
+        protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+                throws IOException, HttpMessageNotWritableException {
+            timer.record(object, () -> super.writeInternal(object, type, outputMessage));
+        }
+    }
+
+    static class TimedSmileConverter extends MappingJackson2SmileHttpMessageConverter {
+
+        private final SerializationTimer timer;
+
+        TimedSmileConverter(ObjectMapper objectMapper, SerializationTimer timer) {
+            super(objectMapper);
+            this.timer = timer;
+        }
+
+        @Override
+        protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+                throws IOException, HttpMessageNotWritableException {
+            timer.record(object, () -> super.writeInternal(object, type, outputMessage));
+        }
+    }
+
+    static class TimedCborConverter extends MappingJackson2CborHttpMessageConverter {
+
+        private final SerializationTimer timer;
+
+        TimedCborConverter(ObjectMapper objectMapper, SerializationTimer timer) {
+            super(objectMapper);
+            this.timer = timer;
+        }
+
+        @Override
+        protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+                throws IOException, HttpMessageNotWritableException {
+            timer.record(object, () -> super.writeInternal(object, type, outputMessage));
+        }
+    }
+}
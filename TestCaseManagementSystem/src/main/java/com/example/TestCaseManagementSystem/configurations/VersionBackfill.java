@@ -0,0 +1,27 @@
+package com.example.TestCaseManagementSystem.configurations;
+
+import com.example.TestCaseManagementSystem.repositories.TestCaseRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+/**
+ * Test cases written before the version field existed have no version, which save() would mistake for a new
+ * document and try to insert. Backfill version 0 before the web server starts taking writes.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class VersionBackfill implements SmartInitializingSingleton {
+
+    private final TestCaseRepository repository;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        long backfilled = repository.initializeMissingVersions();
+        if (backfilled > 0) {
+            log.info("Initialized the version of {} test cases", backfilled);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.TestCaseManagementSystem.configurations;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Spring Boot silently falls back to platform threads when virtual threads are requested on a runtime older than
+ * Java 21, so report which mode the deployment actually runs in.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+@Slf4j
+public class VirtualThreadsCheck {
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void report() {
+        int feature = Runtime.version().feature();
+        if (feature < 21) {
+            log.warn("Virtual threads are enabled but the runtime is Java {}; requests run on platform threads", feature);
+        } else {
+            log.info("Running request handling and task execution on virtual threads");
+        }
+    }
+}
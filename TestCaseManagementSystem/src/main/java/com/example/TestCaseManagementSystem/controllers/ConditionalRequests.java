@@ -0,0 +1,151 @@
+package com.example.TestCaseManagementSystem.controllers;
+
+import com.example.TestCaseManagementSystem.dtos.TestCaseDto;
+import com.example.TestCaseManagementSystem.dtos.TestCaseStamp;
+import com.example.TestCaseManagementSystem.enums.ExportFormat;
+import com.example.TestCaseManagementSystem.exceptions.BadRequestException;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * HTTP validators for test case responses. Single test cases get a strong ETag from their id and version and a
+ * Last-Modified from {@code updatedAt}, and writes can be made conditional on the ETag with If-Match; list pages
+ * get a weak ETag over the ids, {@code updatedAt}s and total of the page, which changes whenever any listed
+ * document or the number of matches does.
+ *
+ * <p>The same test case encodes differently in JSON, Smile and CBOR, so both ETags name the format negotiated from
+ * Accept (JSON, the default, keeps the bare form) and every response carrying them is sent with {@code Vary: Accept}.
+ */
+final class ConditionalRequests {
+
+    private static final MediaType SMILE = MediaType.parseMediaType(ExportFormat.SMILE_VALUE);
+    private static final String SMILE_SUFFIX = "-smile";
+    private static final String CBOR_SUFFIX = "-cbor";
+
+    private ConditionalRequests() {
+    }
+
+    static boolean isConditional(WebRequest request) {
+        return request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                || request.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null;
+    }
+
+    /**
+     * Evaluates If-None-Match / If-Modified-Since and sets ETag and Last-Modified on the response; returns true
+     * when the response is a 304 and the handler should return without a body.
+     */
+    static boolean checkNotModified(WebRequest request, TestCaseStamp stamp) {
+        String etag = etag(stamp, request);
+        if (etag == null && stamp.getUpdatedAt() == null) {
+            return false;
+        }
+        // Mongo keeps milliseconds, so truncate in-memory timestamps to match what a later read returns
+        long updatedAt = stamp.getUpdatedAt() == null ? -1 : stamp.getUpdatedAt().truncatedTo(ChronoUnit.MILLIS)
+                .atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        varyByAccept(request);
+        return request.checkNotModified(etag, updatedAt);
+    }
+
+    static String etag(TestCaseStamp stamp, WebRequest request) {
+        return etag(stamp, request.getHeader(HttpHeaders.ACCEPT));
+    }
+
+    /**
+     * Returns the ETag of a test case for the format negotiated from the given Accept header, for handlers that
+     * have no {@link WebRequest}.
+     */
+    static String etag(TestCaseStamp stamp, String accept) {
+        return stamp.getVersion() == null ? null
+                : "\"" + stamp.getId() + "-" + stamp.getVersion() + formatSuffix(accept) + "\"";
+    }
+
+    /**
+     * Returns the version an If-Match header requires the test case to be at, or null when the write is
+     * unconditional (no header, or {@code *}). Only a single strong ETag of the same test case is accepted, in
+     * any of the formats.
+     */
+    static Long expectedVersion(String ifMatch, String id) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String etag = ifMatch.trim();
+        String prefix = "\"" + id + "-";
+        if (etag.startsWith(prefix) && etag.endsWith("\"") && etag.length() > prefix.length() + 1) {
+            String version = etag.substring(prefix.length(), etag.length() - 1);
+            if (version.endsWith(SMILE_SUFFIX) || version.endsWith(CBOR_SUFFIX)) {
+                version = version.substring(0, version.lastIndexOf('-'));
+            }
+            try {
+                return Long.parseLong(version);
+            } catch (NumberFormatException ignored) {
+                // reported below
+            }
+        }
+        throw new BadRequestException("If-Match must be the ETag of this test case");
+    }
+
+    static boolean checkNotModified(WebRequest request, Page<TestCaseDto> page) {
+        long hash = 17;
+        hash = 31 * hash + page.getTotalElements();
+        hash = 31 * hash + page.getNumber();
+        hash = 31 * hash + page.getSize();
+        for (TestCaseDto testCase : page.getContent()) {
+            hash = 31 * hash + (testCase.getId() == null ? 0 : testCase.getId().hashCode());
+            hash = 31 * hash + (testCase.getUpdatedAt() == null ? 0
+                    : testCase.getUpdatedAt().truncatedTo(ChronoUnit.MILLIS).hashCode());
+        }
+        varyByAccept(request);
+        String suffix = formatSuffix(request.getHeader(HttpHeaders.ACCEPT));
+        return request.checkNotModified("W/\"" + Long.toHexString(hash) + suffix + "\"");
+    }
+
+    /**
+     * Returns the ETag suffix of the format the message converters will pick for this Accept header: the first of
+     * JSON, Smile and CBOR that the most preferred accepted type includes. JSON, the default, has no suffix.
+     */
+    private static String formatSuffix(String accept) {
+        if (accept == null) {
+            return "";
+        }
+        List<MediaType> accepted;
+        try {
+            accepted = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        } catch (InvalidMediaTypeException ex) {
+            // Content negotiation rejects the request after the handler returns
+            return "";
+        }
+        accepted.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+        for (MediaType type : accepted) {
+            if (type.includes(MediaType.APPLICATION_JSON)) {
+                return "";
+            }
+            if (type.includes(SMILE)) {
+                return SMILE_SUFFIX;
+            }
+            if (type.includes(MediaType.APPLICATION_CBOR)) {
+                return CBOR_SUFFIX;
+            }
+        }
+        return "";
+    }
+
+    private static void varyByAccept(WebRequest request) {
+        if (request instanceof NativeWebRequest nativeRequest) {
+            HttpServletResponse response = nativeRequest.getNativeResponse(HttpServletResponse.class);
+            if (response != null && !response.getHeaders(HttpHeaders.VARY).contains(HttpHeaders.ACCEPT)) {
+                response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+            }
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.TestCaseManagementSystem.controllers;
+
+import com.example.TestCaseManagementSystem.apiresponses.NumberedPage;
+import com.example.TestCaseManagementSystem.apiresponses.StandardApiResponse;
+import com.example.TestCaseManagementSystem.dtos.TestCaseDto;
+import com.example.TestCaseManagementSystem.dtos.TestCaseRequestDto;
+import com.example.TestCaseManagementSystem.dtos.TestCaseStamp;
+import com.example.TestCaseManagementSystem.dtos.TestCaseStatsDto;
+import com.example.TestCaseManagementSystem.enums.TestPriority;
+import com.example.TestCaseManagementSystem.enums.TestStatus;
+import com.example.TestCaseManagementSystem.services.ReactiveTestCaseService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+/**
+ * WebFlux counterpart of {@link TestCaseController} for the "reactive" profile. It serves the same URLs and
+ * response envelope for listing, stats and single-document CRUD, and PUT honours If-Match like the blocking one.
+ * {@link TestCaseController} is not loaded under this profile, so the cursor, slice, PATCH, bulk, import and export
+ * endpoints, conditional GETs and write-behind updates are not available on it.
+ */
+@RestController
+@RequestMapping("/api/testcases")
+@Profile("reactive")
+@RequiredArgsConstructor
+@Validated
+@Slf4j
+public class ReactiveTestCaseController {
+
+    private final ReactiveTestCaseService service;
+
+    @GetMapping
+    public Mono<ResponseEntity<StandardApiResponse<NumberedPage<TestCaseDto>>>> getTestCases(
+            @RequestParam(required = false) TestStatus status,
+            @RequestParam(required = false) TestPriority priority,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        log.info("Fetching test cases with status: {} and priority: {} at page: {} with size: {}", status, priority, page, size);
+        return service.getTestCases(status, priority, PageRequest.of(page, size))
+                .map(testCases -> ResponseEntity.ok(new StandardApiResponse<>(
+                        (int) testCases.getTotalElements(),
+                        HttpStatus.OK.value(),
+                        "Test cases retrieved successfully",
+                        NumberedPage.of(testCases)
+                )));
+    }
+
+    @GetMapping("/stats")
+    public Mono<ResponseEntity<StandardApiResponse<TestCaseStatsDto>>> getTestCaseStats() {
+        log.info("Fetching test case stats");
+        return service.getTestCaseStats()
+                .map(stats -> ResponseEntity.ok(new StandardApiResponse<>(
+                        (int) stats.getTotal(),
+                        HttpStatus.OK.value(),
+                        "Test case stats retrieved successfully",
+                        stats
+                )));
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<StandardApiResponse<TestCaseDto>>> getTestCase(@PathVariable String id) {
+        log.info("Fetching test case with id: {}", id);
+        return service.getTestCaseById(id)
+                .map(testCase -> ResponseEntity.ok(new StandardApiResponse<>(
+                        1,
+                        HttpStatus.OK.value(),
+                        "Test case retrieved successfully",
+                        testCase
+                )));
+    }
+
+    @PostMapping("/create")
+    public Mono<ResponseEntity<StandardApiResponse<TestCaseDto>>> createTestCase(@RequestBody @Valid TestCaseRequestDto requestDTO) {
+        log.info("Creating test case with title: {}", requestDTO.getTitle());
+        return service.createTestCase(requestDTO)
+                .map(createdTestCase -> ResponseEntity.status(HttpStatus.CREATED).body(new StandardApiResponse<>(
+                        1,
+                        HttpStatus.CREATED.value(),
+                        "Test case created successfully",
+                        createdTestCase
+                )));
+    }
+
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<StandardApiResponse<TestCaseDto>>> updateTestCase(@PathVariable String id, @RequestBody @Valid TestCaseRequestDto requestDTO,
+                                                                                 @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                                                 @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        log.info("Updating test case with id: {}", id);
+        return service.updateTestCase(id, requestDTO, ConditionalRequests.expectedVersion(ifMatch, id))
+                .map(updatedTestCase -> ResponseEntity.ok()
+                        .varyBy(HttpHeaders.ACCEPT)
+                        .eTag(ConditionalRequests.etag(TestCaseStamp.of(updatedTestCase), accept))
+                        .body(new StandardApiResponse<>(
+                                1,
+                                HttpStatus.OK.value(),
+                                "Test case updated successfully",
+                                updatedTestCase
+                        )));
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<StandardApiResponse<Void>>> deleteTestCase(@PathVariable String id) {
+        log.info("Deleting test case with id: {}", id);
+        return service.deleteTestCase(id)
+                .then(Mono.fromSupplier(() -> ResponseEntity.ok(new StandardApiResponse<Void>(
+                        0,
+                        HttpStatus.OK.value(),
+                        "Test case deleted successfully",
+                        null
+                ))));
+    }
+}
@@ -1,54 +1,318 @@
 package com.example.TestCaseManagementSystem.controllers;
 
+import com.example.TestCaseManagementSystem.apiresponses.CursorPage;
+import com.example.TestCaseManagementSystem.apiresponses.NumberedPage;
+import com.example.TestCaseManagementSystem.apiresponses.PreSerialized;
 import com.example.TestCaseManagementSystem.apiresponses.StandardApiResponse;
+import com.example.TestCaseManagementSystem.apiresponses.SyncPage;
+import com.example.TestCaseManagementSystem.dtos.BulkItemResultDto;
+import com.example.TestCaseManagementSystem.dtos.CacheStatsDto;
+import com.example.TestCaseManagementSystem.dtos.ExecutionIngestReportDto;
+import com.example.TestCaseManagementSystem.dtos.ImportReportDto;
+import com.example.TestCaseManagementSystem.dtos.TestCaseDateFilter;
 import com.example.TestCaseManagementSystem.dtos.TestCaseDto;
+import com.example.TestCaseManagementSystem.dtos.TestCaseFacetsDto;
+import com.example.TestCaseManagementSystem.dtos.TestCasePatchDto;
 import com.example.TestCaseManagementSystem.dtos.TestCaseRequestDto;
+import com.example.TestCaseManagementSystem.dtos.TestCaseStamp;
+import com.example.TestCaseManagementSystem.dtos.TestCaseStatsDto;
+import com.example.TestCaseManagementSystem.dtos.TestExecutionDto;
+import com.example.TestCaseManagementSystem.dtos.TitleSuggestionDto;
+import com.example.TestCaseManagementSystem.enums.ExportFormat;
+import com.example.TestCaseManagementSystem.enums.TestCaseField;
+import com.example.TestCaseManagementSystem.enums.TestCaseSortKey;
 import com.example.TestCaseManagementSystem.enums.TestPriority;
 import com.example.TestCaseManagementSystem.enums.TestStatus;
+import com.example.TestCaseManagementSystem.enums.BulkItemStatus;
+import com.example.TestCaseManagementSystem.exceptions.BadRequestException;
+import com.example.TestCaseManagementSystem.services.TestCaseBulkService;
+import com.example.TestCaseManagementSystem.services.TestCaseExportService;
+import com.example.TestCaseManagementSystem.services.TestCaseImportService;
+import com.example.TestCaseManagementSystem.services.TestCaseJsonCache;
 import com.example.TestCaseManagementSystem.services.TestCaseService;
+import com.example.TestCaseManagementSystem.services.TestCaseSyncService;
+import com.example.TestCaseManagementSystem.services.TestExecutionService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/testcases")
+@Profile("!reactive")
 @RequiredArgsConstructor
 @Validated
 @Slf4j
 public class TestCaseController {
 
     private final TestCaseService service;
+    private final TestCaseBulkService bulkService;
+    private final TestCaseExportService exportService;
+    private final TestCaseImportService importService;
+    private final TestCaseSyncService syncService;
+    private final TestExecutionService executionService;
+    private final TestCaseJsonCache jsonCache;
 
     @GetMapping
-    public ResponseEntity<StandardApiResponse<Page<TestCaseDto>>> getTestCases(
+    public ResponseEntity<StandardApiResponse<NumberedPage<PreSerialized<TestCaseDto>>>> getTestCases(
             @RequestParam(required = false) TestStatus status,
             @RequestParam(required = false) TestPriority priority,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime updatedFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime updatedTo,
+            WebRequest request) {
         log.info("Fetching test cases with status: {} and priority: {} at page: {} with size: {}", status, priority, page, size);
-        Page<TestCaseDto> testCases = service.getTestCases(status, priority, PageRequest.of(page, size));
+        TestCaseDateFilter dates = new TestCaseDateFilter(createdFrom, createdTo, updatedFrom, updatedTo);
+        Page<TestCaseDto> testCases = service.getTestCases(status, priority, dates, PageRequest.of(page, size));
+        if (ConditionalRequests.checkNotModified(request, testCases)) {
+            log.debug("Test case page not modified");
+            return null;
+        }
+        log.debug("Retrieved {} test cases", testCases.getTotalElements());
+        StandardApiResponse<NumberedPage<PreSerialized<TestCaseDto>>> response = new StandardApiResponse<>(
+                (int) testCases.getTotalElements(),
+                HttpStatus.OK.value(),
+                "Test cases retrieved successfully",
+                NumberedPage.of(testCases.map(jsonCache::wrap))
+        );
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping(params = {"fields", "!after", "count!=false"})
+    public ResponseEntity<StandardApiResponse<NumberedPage<Map<String, Object>>>> getTestCaseFields(
+            @RequestParam(required = false) TestStatus status,
+            @RequestParam(required = false) TestPriority priority,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam String fields,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime updatedFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime updatedTo) {
+        log.info("Fetching fields: {} of test cases with status: {} and priority: {} at page: {} with size: {}", fields, status, priority, page, size);
+        TestCaseDateFilter dates = new TestCaseDateFilter(createdFrom, createdTo, updatedFrom, updatedTo);
+        Page<Map<String, Object>> testCases = service.getTestCaseFields(status, priority, dates, TestCaseField.parseAll(fields), PageRequest.of(page, size));
         log.debug("Retrieved {} test cases", testCases.getTotalElements());
-        StandardApiResponse<Page<TestCaseDto>> response = new StandardApiResponse<>(
+        StandardApiResponse<NumberedPage<Map<String, Object>>> response = new StandardApiResponse<>(
                 (int) testCases.getTotalElements(),
                 HttpStatus.OK.value(),
                 "Test cases retrieved successfully",
+                NumberedPage.of(testCases)
+        );
+        return ResponseEntity.ok(response);
+    }
+
+    // Cursor requests are count-free already and go to getTestCasesByCursor
+    @GetMapping(params = {"count=false", "!after"})
+    public ResponseEntity<StandardApiResponse<Slice<TestCaseDto>>> getTestCaseSlice(
+            @RequestParam(required = false) TestStatus status,
+            @RequestParam(required = false) TestPriority priority,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String fields) {
+        if (fields != null) {
+            throw new BadRequestException("fields cannot be combined with count=false");
+        }
+        log.info("Fetching test case slice with status: {} and priority: {} at page: {} with size: {}", status, priority, page, size);
+        Slice<TestCaseDto> testCases = service.getTestCaseSlice(status, priority, PageRequest.of(page, size));
+        long estimatedTotal = service.estimateTestCaseCount(status, priority);
+        log.debug("Retrieved {} test cases of an estimated {}", testCases.getNumberOfElements(), estimatedTotal);
+        StandardApiResponse<Slice<TestCaseDto>> response = new StandardApiResponse<>(
+                (int) estimatedTotal,
+                HttpStatus.OK.value(),
+                "Test cases retrieved successfully",
                 testCases
         );
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(params = "after")
+    public ResponseEntity<StandardApiResponse<CursorPage<TestCaseDto>>> getTestCasesByCursor(
+            @RequestParam(required = false) TestStatus status,
+            @RequestParam(required = false) TestPriority priority,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "CREATED_AT") TestCaseSortKey sortBy,
+            @RequestParam(defaultValue = "10") int size) {
+        log.info("Fetching test cases with status: {} and priority: {} sorted by: {} after cursor: {} with size: {}", status, priority, sortBy, after, size);
+        CursorPage<TestCaseDto> testCases = service.getTestCasesAfter(status, priority, sortBy, after, size);
+        log.debug("Retrieved {} test cases", testCases.getContent().size());
+        StandardApiResponse<CursorPage<TestCaseDto>> response = new StandardApiResponse<>(
+                testCases.getContent().size(),
+                HttpStatus.OK.value(),
+                "Test cases retrieved successfully",
+                testCases
+        );
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/facets")
+    public ResponseEntity<StandardApiResponse<TestCaseFacetsDto>> getTestCaseFacets(
+            @RequestParam(required = false) TestStatus status,
+            @RequestParam(required = false) TestPriority priority,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        log.info("Fetching faceted test cases with status: {} and priority: {} at page: {} with size: {}", status, priority, page, size);
+        TestCaseFacetsDto facets = service.getTestCaseFacets(status, priority, PageRequest.of(page, size));
+        log.debug("Retrieved {} test cases with facets", facets.getPage().getTotalElements());
+        StandardApiResponse<TestCaseFacetsDto> response = new StandardApiResponse<>(
+                (int) facets.getPage().getTotalElements(),
+                HttpStatus.OK.value(),
+                "Test cases retrieved successfully",
+                facets
+        );
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/changes")
+    public ResponseEntity<StandardApiResponse<SyncPage<TestCaseDto>>> getTestCaseChanges(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "100") int size) {
+        log.info("Fetching test cases changed since: {} after cursor: {} with size: {}", since, after, size);
+        SyncPage<TestCaseDto> changes = syncService.getChanges(since, after, size);
+        log.debug("Retrieved {} changed test cases", changes.getContent().size());
+        StandardApiResponse<SyncPage<TestCaseDto>> response = new StandardApiResponse<>(
+                changes.getContent().size(),
+                HttpStatus.OK.value(),
+                "Test case changes retrieved successfully",
+                changes
+        );
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<StandardApiResponse<CursorPage<TestCaseDto>>> searchTestCases(
+            @RequestParam String q,
+            @RequestParam(required = false) TestStatus status,
+            @RequestParam(required = false) TestPriority priority,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "10") int size) {
+        log.info("Searching test cases for: {} with status: {} and priority: {} after cursor: {} with size: {}", q, status, priority, after, size);
+        CursorPage<TestCaseDto> testCases = service.searchTestCases(q, status, priority, after, size);
+        log.debug("Found {} test cases", testCases.getContent().size());
+        StandardApiResponse<CursorPage<TestCaseDto>> response = new StandardApiResponse<>(
+                testCases.getContent().size(),
+                HttpStatus.OK.value(),
+                "Test cases retrieved successfully",
+                testCases
+        );
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/typeahead")
+    public ResponseEntity<StandardApiResponse<List<TitleSuggestionDto>>> suggestTitles(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        log.info("Suggesting titles for: {} with limit: {}", q, limit);
+        List<TitleSuggestionDto> suggestions = service.suggestTitles(q, limit);
+        log.debug("Suggested {} titles", suggestions.size());
+        StandardApiResponse<List<TitleSuggestionDto>> response = new StandardApiResponse<>(
+                suggestions.size(),
+                HttpStatus.OK.value(),
+                "Title suggestions retrieved successfully",
+                suggestions
+        );
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<StandardApiResponse<TestCaseStatsDto>> getTestCaseStats() {
+        log.info("Fetching test case stats");
+        TestCaseStatsDto stats = service.getTestCaseStats();
+        log.debug("Fetched test case stats: {}", stats);
+        StandardApiResponse<TestCaseStatsDto> response = new StandardApiResponse<>(
+                (int) stats.getTotal(),
+                HttpStatus.OK.value(),
+                "Test case stats retrieved successfully",
+                stats
+        );
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/cache/stats")
+    public ResponseEntity<StandardApiResponse<Map<String, CacheStatsDto>>> getCacheStats() {
+        log.info("Fetching test case cache stats");
+        Map<String, CacheStatsDto> stats = new LinkedHashMap<>(service.getCacheStats());
+        stats.put("json", jsonCache.stats());
+        log.debug("Fetched test case cache stats: {}", stats);
+        StandardApiResponse<Map<String, CacheStatsDto>> response = new StandardApiResponse<>(
+                (int) stats.values().stream().mapToLong(CacheStatsDto::getEstimatedSize).sum(),
+                HttpStatus.OK.value(),
+                "Test case cache stats retrieved successfully",
+                stats
+        );
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping(value = "/export", produces = {MediaType.APPLICATION_NDJSON_VALUE, ExportFormat.SMILE_VALUE, ExportFormat.CBOR_VALUE})
+    public ResponseEntity<StreamingResponseBody> exportTestCases(
+            @RequestParam(required = false) TestStatus status,
+            @RequestParam(required = false) TestPriority priority,
+            @RequestHeader HttpHeaders headers,
+            WebRequest request) {
+        ExportFormat format = ExportFormat.negotiate(headers.getAccept());
+        log.info("Exporting test cases with status: {} and priority: {} as {}", status, priority, format);
+        // Only the export waits this long; other async requests keep the container default
+        WebAsyncUtils.getAsyncManager(request).getAsyncWebRequest().setTimeout(exportService.getTimeout().toMillis());
+        StreamingResponseBody body = out -> exportService.exportTestCases(status, priority, format, out);
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .body(body);
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<StandardApiResponse<TestCaseDto>> getTestCase(@PathVariable String id) {
+    public ResponseEntity<StandardApiResponse<PreSerialized<TestCaseDto>>> getTestCase(@PathVariable String id, WebRequest request) {
         log.info("Fetching test case with id: {}", id);
+        boolean conditional = ConditionalRequests.isConditional(request);
+        // Polling clients are answered from the validators alone, before the document is loaded and mapped
+        if (conditional && ConditionalRequests.checkNotModified(request, service.getTestCaseStamp(id))) {
+            log.debug("Test case with id {} not modified", id);
+            return null;
+        }
         TestCaseDto testCase = service.getTestCaseById(id);
+        if (!conditional) {
+            // No validators were sent, so this only sets ETag and Last-Modified on the response
+            ConditionalRequests.checkNotModified(request, TestCaseStamp.of(testCase));
+        }
         log.debug("Fetched test case: {}", testCase);
-        StandardApiResponse<TestCaseDto> response = new StandardApiResponse<>(
+        StandardApiResponse<PreSerialized<TestCaseDto>> response = new StandardApiResponse<>(
+                1,
+                HttpStatus.OK.value(),
+                "Test case retrieved successfully",
+                jsonCache.wrap(testCase)
+        );
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping(value = "/{id}", params = "fields")
+    public ResponseEntity<StandardApiResponse<Map<String, Object>>> getTestCaseFields(@PathVariable String id, @RequestParam String fields) {
+        log.info("Fetching fields: {} of test case with id: {}", fields, id);
+        Map<String, Object> testCase = service.getTestCaseFieldsById(id, TestCaseField.parseAll(fields));
+        log.debug("Fetched test case fields: {}", testCase);
+        StandardApiResponse<Map<String, Object>> response = new StandardApiResponse<>(
                 1,
                 HttpStatus.OK.value(),
                 "Test case retrieved successfully",
@@ -72,9 +336,22 @@ public class TestCaseController {
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<StandardApiResponse<TestCaseDto>> updateTestCase(@PathVariable String id, @RequestBody @Valid TestCaseRequestDto requestDTO) {
+    public ResponseEntity<StandardApiResponse<TestCaseDto>> updateTestCase(@PathVariable String id, @RequestBody @Valid TestCaseRequestDto requestDTO,
+                                                                           @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                                           WebRequest request) {
         log.info("Updating test case with id: {}", id);
-        TestCaseDto updatedTestCase = service.updateTestCase(id, requestDTO);
+        Long expectedVersion = ConditionalRequests.expectedVersion(ifMatch, id);
+        if (expectedVersion == null && service.isWriteBehindEnabled()) {
+            service.deferTestCaseUpdate(id, requestDTO);
+            StandardApiResponse<TestCaseDto> response = new StandardApiResponse<>(
+                    1,
+                    HttpStatus.ACCEPTED.value(),
+                    "Test case update accepted",
+                    null
+            );
+            return ResponseEntity.accepted().body(response);
+        }
+        TestCaseDto updatedTestCase = service.updateTestCase(id, requestDTO, expectedVersion);
         log.debug("Updated test case: {}", updatedTestCase);
         StandardApiResponse<TestCaseDto> response = new StandardApiResponse<>(
                 1,
@@ -82,7 +359,29 @@ public class TestCaseController {
                 "Test case updated successfully",
                 updatedTestCase
         );
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                .varyBy(HttpHeaders.ACCEPT)
+                .eTag(ConditionalRequests.etag(TestCaseStamp.of(updatedTestCase), request))
+                .body(response);
+    }
+
+    @PatchMapping("/{id}")
+    public ResponseEntity<StandardApiResponse<TestCaseDto>> patchTestCase(@PathVariable String id, @RequestBody @Valid TestCasePatchDto patchDTO,
+                                                                          @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                                          WebRequest request) {
+        log.info("Patching test case with id: {}", id);
+        TestCaseDto patchedTestCase = service.patchTestCase(id, patchDTO, ConditionalRequests.expectedVersion(ifMatch, id));
+        log.debug("Patched test case: {}", patchedTestCase);
+        StandardApiResponse<TestCaseDto> response = new StandardApiResponse<>(
+                1,
+                HttpStatus.OK.value(),
+                "Test case updated successfully",
+                patchedTestCase
+        );
+        return ResponseEntity.ok()
+                .varyBy(HttpHeaders.ACCEPT)
+                .eTag(ConditionalRequests.etag(TestCaseStamp.of(patchedTestCase), request))
+                .body(response);
     }
 
     @DeleteMapping("/{id}")
@@ -98,4 +397,90 @@ public class TestCaseController {
         );
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+
+    @PostMapping("/bulk/create")
+    public ResponseEntity<StandardApiResponse<List<BulkItemResultDto>>> createTestCases(@RequestBody List<TestCaseRequestDto> requestDTOs) {
+        log.info("Bulk creating {} test cases", requestDTOs.size());
+        List<BulkItemResultDto> results = bulkService.createTestCases(requestDTOs);
+        return bulkResponse(results, BulkItemStatus.CREATED, "Bulk create processed");
+    }
+
+    @PutMapping("/bulk")
+    public ResponseEntity<StandardApiResponse<List<BulkItemResultDto>>> updateTestCases(@RequestBody List<TestCaseRequestDto> requestDTOs) {
+        log.info("Bulk updating {} test cases", requestDTOs.size());
+        List<BulkItemResultDto> results = bulkService.updateTestCases(requestDTOs);
+        return bulkResponse(results, BulkItemStatus.UPDATED, "Bulk update processed");
+    }
+
+    @DeleteMapping("/bulk")
+    public ResponseEntity<StandardApiResponse<List<BulkItemResultDto>>> deleteTestCases(@RequestBody List<TestCaseRequestDto> requestDTOs) {
+        log.info("Bulk deleting {} test cases", requestDTOs.size());
+        List<BulkItemResultDto> results = bulkService.deleteTestCases(requestDTOs);
+        return bulkResponse(results, BulkItemStatus.DELETED, "Bulk delete processed");
+    }
+
+    @PostMapping("/executions")
+    public ResponseEntity<StandardApiResponse<ExecutionIngestReportDto>> ingestExecutions(@RequestBody List<TestExecutionDto> executionDTOs) {
+        log.info("Ingesting {} test executions", executionDTOs.size());
+        ExecutionIngestReportDto report = executionService.ingest(executionDTOs);
+        log.debug("Stored {} of {} test executions", report.getStored(), report.getReceived());
+        StandardApiResponse<ExecutionIngestReportDto> response = new StandardApiResponse<>(
+                (int) report.getStored(),
+                HttpStatus.OK.value(),
+                "Executions ingested",
+                report
+        );
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/{id}/executions")
+    public ResponseEntity<StandardApiResponse<List<TestExecutionDto>>> getExecutions(
+            @PathVariable String id,
+            @RequestParam(defaultValue = "50") int limit) {
+        log.info("Fetching executions of test case with id: {} with limit: {}", id, limit);
+        List<TestExecutionDto> executions = executionService.getExecutions(id, limit);
+        log.debug("Fetched {} executions", executions.size());
+        StandardApiResponse<List<TestExecutionDto>> response = new StandardApiResponse<>(
+                executions.size(),
+                HttpStatus.OK.value(),
+                "Executions retrieved successfully",
+                executions
+        );
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StandardApiResponse<ImportReportDto>> importNdjson(InputStream body) throws IOException {
+        log.info("Importing test cases from NDJSON");
+        return importResponse(importService.importNdjson(body));
+    }
+
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<StandardApiResponse<ImportReportDto>> importCsv(InputStream body) throws IOException {
+        log.info("Importing test cases from CSV");
+        return importResponse(importService.importCsv(body));
+    }
+
+    private ResponseEntity<StandardApiResponse<ImportReportDto>> importResponse(ImportReportDto report) {
+        log.debug("Imported {} of {} rows", report.getImported(), report.getRows());
+        StandardApiResponse<ImportReportDto> response = new StandardApiResponse<>(
+                (int) report.getImported(),
+                HttpStatus.OK.value(),
+                "Import processed",
+                report
+        );
+        return ResponseEntity.ok(response);
+    }
+
+    private ResponseEntity<StandardApiResponse<List<BulkItemResultDto>>> bulkResponse(List<BulkItemResultDto> results, BulkItemStatus success, String message) {
+        long succeeded = results.stream().filter(result -> result.getStatus() == success).count();
+        log.debug("{} of {} bulk items succeeded", succeeded, results.size());
+        StandardApiResponse<List<BulkItemResultDto>> response = new StandardApiResponse<>(
+                (int) succeeded,
+                HttpStatus.OK.value(),
+                message,
+                results
+        );
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.TestCaseManagementSystem.dtos;
+
+import com.example.TestCaseManagementSystem.enums.BulkItemStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkItemResultDto {
+    private int index;
+    private String id;
+    private BulkItemStatus status;
+    private String message;
+}
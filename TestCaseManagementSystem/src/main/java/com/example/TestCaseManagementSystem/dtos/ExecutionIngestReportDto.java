@@ -0,0 +1,16 @@
+package com.example.TestCaseManagementSystem.dtos;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class ExecutionIngestReportDto {
+    private long received;
+    private long stored;
+    private long rejected;
+    // Test cases whose status changed; each gets at most one write per ingest chunk
+    private long statusUpdates;
+    private List<ImportRowErrorDto> errors;
+    private boolean errorsTruncated;
+}
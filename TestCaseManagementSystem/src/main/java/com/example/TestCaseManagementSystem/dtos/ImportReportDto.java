@@ -0,0 +1,14 @@
+package com.example.TestCaseManagementSystem.dtos;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class ImportReportDto {
+    private long rows;
+    private long imported;
+    private long failed;
+    private List<ImportRowErrorDto> errors;
+    private boolean errorsTruncated;
+}
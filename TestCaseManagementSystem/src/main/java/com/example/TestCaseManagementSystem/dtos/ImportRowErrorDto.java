@@ -0,0 +1,13 @@
+package com.example.TestCaseManagementSystem.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportRowErrorDto {
+    private long row;
+    private String message;
+}
@@ -0,0 +1,12 @@
+package com.example.TestCaseManagementSystem.dtos;
+
+import com.example.TestCaseManagementSystem.enums.TestPriority;
+import com.example.TestCaseManagementSystem.enums.TestStatus;
+import lombok.Data;
+
+@Data
+public class StatusPriorityCount {
+    private TestStatus status;
+    private TestPriority priority;
+    private long count;
+}
@@ -0,0 +1,25 @@
+package com.example.TestCaseManagementSystem.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Optional bounds on the creation and modification times of listed test cases. Lower bounds are inclusive and
+ * upper bounds exclusive, so adjacent ranges never return a test case twice.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TestCaseDateFilter {
+    private LocalDateTime createdFrom;
+    private LocalDateTime createdTo;
+    private LocalDateTime updatedFrom;
+    private LocalDateTime updatedTo;
+
+    public boolean isEmpty() {
+        return createdFrom == null && createdTo == null && updatedFrom == null && updatedTo == null;
+    }
+}
@@ -21,4 +21,5 @@ public class TestCaseDto {
     private TestPriority priority;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 }
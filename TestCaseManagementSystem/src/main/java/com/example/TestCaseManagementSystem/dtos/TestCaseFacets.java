@@ -0,0 +1,22 @@
+package com.example.TestCaseManagementSystem.dtos;
+
+import com.example.TestCaseManagementSystem.entities.TestCase;
+import com.example.TestCaseManagementSystem.enums.TestPriority;
+import com.example.TestCaseManagementSystem.enums.TestStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.springframework.data.domain.Page;
+
+import java.util.Map;
+
+/**
+ * Result of the faceted list aggregation: one page of matches plus the number of matches per status and per
+ * priority, every value of both enums included.
+ */
+@Data
+@AllArgsConstructor
+public class TestCaseFacets {
+    private Page<TestCase> page;
+    private Map<TestStatus, Long> statusCounts;
+    private Map<TestPriority, Long> priorityCounts;
+}
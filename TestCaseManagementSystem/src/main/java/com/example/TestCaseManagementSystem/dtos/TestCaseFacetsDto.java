@@ -0,0 +1,19 @@
+package com.example.TestCaseManagementSystem.dtos;
+
+import com.example.TestCaseManagementSystem.enums.TestPriority;
+import com.example.TestCaseManagementSystem.enums.TestStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TestCaseFacetsDto {
+    private Page<TestCaseDto> page;
+    private Map<TestStatus, Long> statusCounts;
+    private Map<TestPriority, Long> priorityCounts;
+}
@@ -0,0 +1,21 @@
+package com.example.TestCaseManagementSystem.dtos;
+
+import com.example.TestCaseManagementSystem.enums.TestPriority;
+import com.example.TestCaseManagementSystem.enums.TestStatus;
+import jakarta.validation.constraints.Pattern;
+import lombok.Data;
+
+/**
+ * Partial update: only the non-null fields are written, everything else is left as stored.
+ */
+@Data
+public class TestCasePatchDto {
+    @Pattern(regexp = "(?s).*\\S.*", message = "Title must not be blank")
+    private String title;
+
+    private String description;
+
+    private TestStatus status;
+
+    private TestPriority priority;
+}
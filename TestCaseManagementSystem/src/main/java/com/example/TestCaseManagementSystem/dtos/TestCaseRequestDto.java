@@ -7,6 +7,9 @@ import lombok.Data;
 
 @Data
 public class TestCaseRequestDto {
+    // Only read by the bulk update and delete endpoints; single-item endpoints take the id from the path
+    private String id;
+
     @NotBlank(message = "Title is required")
     private String title;
 
@@ -0,0 +1,21 @@
+package com.example.TestCaseManagementSystem.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * The fields a test case's ETag and Last-Modified are derived from.
+ */
+@Data
+@AllArgsConstructor
+public class TestCaseStamp {
+    private String id;
+    private LocalDateTime updatedAt;
+    private Long version;
+
+    public static TestCaseStamp of(TestCaseDto testCase) {
+        return new TestCaseStamp(testCase.getId(), testCase.getUpdatedAt(), testCase.getVersion());
+    }
+}
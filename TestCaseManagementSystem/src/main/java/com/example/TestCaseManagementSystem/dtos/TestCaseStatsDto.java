@@ -0,0 +1,15 @@
+package com.example.TestCaseManagementSystem.dtos;
+
+import com.example.TestCaseManagementSystem.enums.TestPriority;
+import com.example.TestCaseManagementSystem.enums.TestStatus;
+import lombok.Data;
+
+import java.util.Map;
+
+@Data
+public class TestCaseStatsDto {
+    private Map<TestStatus, Map<TestPriority, Long>> counts;
+    private Map<TestStatus, Long> byStatus;
+    private Map<TestPriority, Long> byPriority;
+    private long total;
+}
@@ -0,0 +1,30 @@
+package com.example.TestCaseManagementSystem.dtos;
+
+import com.example.TestCaseManagementSystem.enums.TestStatus;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class TestExecutionDto {
+    // Assigned by Mongo; ignored on ingest
+    private String id;
+
+    @NotBlank(message = "Test case id is required")
+    private String testCaseId;
+
+    @NotNull(message = "Status is required")
+    private TestStatus status;
+
+    @NotNull(message = "Duration is required")
+    @PositiveOrZero(message = "Duration must not be negative")
+    private Long durationMillis;
+
+    private String buildId;
+
+    // Defaults to the time of ingest
+    private LocalDateTime executedAt;
+}
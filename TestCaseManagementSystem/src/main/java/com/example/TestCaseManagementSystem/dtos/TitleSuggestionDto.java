@@ -0,0 +1,13 @@
+package com.example.TestCaseManagementSystem.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TitleSuggestionDto {
+    private String id;
+    private String title;
+}
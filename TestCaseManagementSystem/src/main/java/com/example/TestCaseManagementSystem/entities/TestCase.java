@@ -5,8 +5,13 @@ import com.example.TestCaseManagementSystem.enums.TestStatus;
 import jakarta.validation.constraints.NotBlank;
 import lombok.*;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.index.TextIndexed;
 import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.TextScore;
 
 import java.time.LocalDateTime;
 
@@ -15,14 +20,25 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Builder
 @Document(collection = "test_cases")
+@CompoundIndexes({
+        @CompoundIndex(name = "createdAt_id", def = "{'createdAt': 1, '_id': 1}"),
+        @CompoundIndex(name = "updatedAt_id", def = "{'updatedAt': 1, '_id': 1}"),
+        @CompoundIndex(name = "status_createdAt_id", def = "{'status': 1, 'createdAt': 1, '_id': 1}"),
+        @CompoundIndex(name = "priority_createdAt_id", def = "{'priority': 1, 'createdAt': 1, '_id': 1}"),
+        @CompoundIndex(name = "status_priority_createdAt_id", def = "{'status': 1, 'priority': 1, 'createdAt': 1, '_id': 1}"),
+        @CompoundIndex(name = "priority_id", def = "{'priority': 1, '_id': 1}"),
+        @CompoundIndex(name = "status_priority_id", def = "{'status': 1, 'priority': 1, '_id': 1}")
+})
 public class TestCase {
 
     @Id
     private String id;
 
     @NotBlank(message = "Title is required")
+    @TextIndexed(weight = 2)
     private String title;
 
+    @TextIndexed
     private String description;
 
     @Indexed
@@ -33,4 +49,15 @@ public class TestCase {
 
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+
+    // executedAt of the newest CI result applied to status; results older than it no longer change the status
+    private LocalDateTime lastExecutedAt;
+
+    // Incremented by every write; save() only replaces the document while the stored version still matches
+    @Version
+    private Long version;
+
+    // Relevance of the document to a text search; only set on search results and never stored
+    @TextScore
+    private Double score;
 }
@@ -0,0 +1,37 @@
+package com.example.TestCaseManagementSystem.entities;
+
+import com.example.TestCaseManagementSystem.enums.TestStatus;
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.TimeSeries;
+import org.springframework.data.mongodb.core.timeseries.Granularity;
+
+import java.time.LocalDateTime;
+
+/**
+ * One run of a test case. Runs are stored in a time-series collection bucketed per test case, so a test case's
+ * history is read from a few contiguous buckets. No index annotations here: automatic index creation would create
+ * the collection as a regular one before {@code ExecutionCollectionInitializer} can create it as time series.
+ */
+@Data
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Document(collection = "test_executions")
+@TimeSeries(timeField = "executedAt", metaField = "testCaseId", granularity = Granularity.SECONDS)
+public class TestExecution {
+
+    @Id
+    private String id;
+
+    private String testCaseId;
+
+    private TestStatus status;
+
+    private Long durationMillis;
+
+    private String buildId;
+
+    private LocalDateTime executedAt;
+}
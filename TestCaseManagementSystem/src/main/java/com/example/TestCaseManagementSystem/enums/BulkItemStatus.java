@@ -0,0 +1,10 @@
+package com.example.TestCaseManagementSystem.enums;
+
+public enum BulkItemStatus {
+    CREATED,
+    UPDATED,
+    DELETED,
+    NOT_FOUND,
+    INVALID,
+    FAILED
+}
@@ -0,0 +1,56 @@
+package com.example.TestCaseManagementSystem.enums;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonFactoryBuilder;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+
+public enum ExportFormat {
+    NDJSON(MediaType.APPLICATION_NDJSON_VALUE),
+    SMILE(ExportFormat.SMILE_VALUE),
+    // RFC 8742 sequence of concatenated CBOR items
+    CBOR(ExportFormat.CBOR_VALUE);
+
+    public static final String SMILE_VALUE = "application/x-jackson-smile";
+    public static final String CBOR_VALUE = "application/cbor-seq";
+
+    private final MediaType mediaType;
+
+    ExportFormat(String mediaType) {
+        this.mediaType = MediaType.parseMediaType(mediaType);
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public boolean isBinary() {
+        return this != NDJSON;
+    }
+
+    public JsonFactory newFactory() {
+        return switch (this) {
+            // Lines are delimited by the exporter; Jackson's default space between root values would lead every line
+            case NDJSON -> new JsonFactoryBuilder().rootValueSeparator((String) null).build();
+            case SMILE -> new SmileFactory();
+            case CBOR -> new CBORFactory();
+        };
+    }
+
+    /**
+     * Picks the first format an accepted type includes, in the client's order; wildcards get NDJSON.
+     */
+    public static ExportFormat negotiate(List<MediaType> accepted) {
+        for (MediaType type : accepted) {
+            for (ExportFormat format : values()) {
+                if (type.includes(format.mediaType)) {
+                    return format;
+                }
+            }
+        }
+        return NDJSON;
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.TestCaseManagementSystem.enums;
+
+import com.example.TestCaseManagementSystem.dtos.TestCaseDto;
+import com.example.TestCaseManagementSystem.exceptions.BadRequestException;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * The fields a client can select with {@code fields=}. Names are the JSON property names of {@link TestCaseDto},
+ * which are also the entity's property names, so they double as the Mongo projection.
+ */
+public enum TestCaseField {
+    ID("id"),
+    TITLE("title"),
+    DESCRIPTION("description"),
+    STATUS("status"),
+    PRIORITY("priority"),
+    CREATED_AT("createdAt"),
+    UPDATED_AT("updatedAt"),
+    VERSION("version");
+
+    private final String field;
+
+    TestCaseField(String field) {
+        this.field = field;
+    }
+
+    public String getField() {
+        return field;
+    }
+
+    public Object valueOf(TestCaseDto testCase) {
+        return switch (this) {
+            case ID -> testCase.getId();
+            case TITLE -> testCase.getTitle();
+            case DESCRIPTION -> testCase.getDescription();
+            case STATUS -> testCase.getStatus();
+            case PRIORITY -> testCase.getPriority();
+            case CREATED_AT -> testCase.getCreatedAt();
+            case UPDATED_AT -> testCase.getUpdatedAt();
+            case VERSION -> testCase.getVersion();
+        };
+    }
+
+    /**
+     * Parses a comma-separated list such as {@code title,status}. The id is always selected, since clients need
+     * it to address the test case and Mongo returns it with every projection anyway.
+     */
+    public static Set<TestCaseField> parseAll(String fields) {
+        Set<TestCaseField> selected = EnumSet.of(ID);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            selected.add(Arrays.stream(values())
+                    .filter(field -> field.field.equals(trimmed))
+                    .findFirst()
+                    .orElseThrow(() -> new BadRequestException("Unknown field: " + trimmed)));
+        }
+        return selected;
+    }
+}
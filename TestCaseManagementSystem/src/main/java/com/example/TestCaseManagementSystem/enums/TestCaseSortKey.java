@@ -0,0 +1,41 @@
+package com.example.TestCaseManagementSystem.enums;
+
+import com.example.TestCaseManagementSystem.entities.TestCase;
+
+import java.time.LocalDateTime;
+
+public enum TestCaseSortKey {
+    CREATED_AT("createdAt"),
+    // Priorities are stored and indexed by name, so this orders HIGH, LOW, MEDIUM rather than by rank
+    PRIORITY("priority"),
+    UPDATED_AT("updatedAt"),
+    // Descending text search relevance; only produced and accepted by searches
+    SCORE("score");
+
+    private final String field;
+
+    TestCaseSortKey(String field) {
+        this.field = field;
+    }
+
+    public String getField() {
+        return field;
+    }
+
+    public Object valueOf(TestCase testCase) {
+        return switch (this) {
+            case CREATED_AT -> testCase.getCreatedAt();
+            case PRIORITY -> testCase.getPriority();
+            case UPDATED_AT -> testCase.getUpdatedAt();
+            case SCORE -> testCase.getScore();
+        };
+    }
+
+    public Object parse(String value) {
+        return switch (this) {
+            case CREATED_AT, UPDATED_AT -> LocalDateTime.parse(value);
+            case PRIORITY -> TestPriority.valueOf(value);
+            case SCORE -> Double.valueOf(value);
+        };
+    }
+}
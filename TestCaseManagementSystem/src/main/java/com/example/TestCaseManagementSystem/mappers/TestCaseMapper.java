@@ -0,0 +1,93 @@
+package com.example.TestCaseManagementSystem.mappers;
+
+import com.example.TestCaseManagementSystem.dtos.TestCaseDto;
+import com.example.TestCaseManagementSystem.dtos.TestCasePatchDto;
+import com.example.TestCaseManagementSystem.dtos.TestCaseRequestDto;
+import com.example.TestCaseManagementSystem.entities.TestCase;
+import com.example.TestCaseManagementSystem.enums.TestCaseField;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Plain field-by-field mapping between the entity and its DTOs. It keeps the behaviour of the ModelMapper
+ * defaults it replaces: an update copies every request field onto the entity, nulls included, and leaves the
+ * id, timestamps and version to the caller. A patch only touches the fields it carries, both in the generated
+ * {@code $set} and when applied to an entity in memory. A sparse fieldset keeps only the selected fields, in
+ * declaration order.
+ */
+@Component
+public class TestCaseMapper {
+
+    public TestCaseDto toDto(TestCase testCase) {
+        TestCaseDto dto = new TestCaseDto();
+        dto.setId(testCase.getId());
+        dto.setTitle(testCase.getTitle());
+        dto.setDescription(testCase.getDescription());
+        dto.setStatus(testCase.getStatus());
+        dto.setPriority(testCase.getPriority());
+        dto.setCreatedAt(testCase.getCreatedAt());
+        dto.setUpdatedAt(testCase.getUpdatedAt());
+        dto.setVersion(testCase.getVersion());
+        return dto;
+    }
+
+    public Map<String, Object> toFieldMap(TestCaseDto dto, Set<TestCaseField> fields) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (TestCaseField field : fields) {
+            values.put(field.getField(), field.valueOf(dto));
+        }
+        return values;
+    }
+
+    public TestCase toEntity(TestCaseRequestDto dto) {
+        return TestCase.builder()
+                .title(dto.getTitle())
+                .description(dto.getDescription())
+                .status(dto.getStatus())
+                .priority(dto.getPriority())
+                .build();
+    }
+
+    public void updateEntity(TestCaseRequestDto dto, TestCase testCase) {
+        testCase.setTitle(dto.getTitle());
+        testCase.setDescription(dto.getDescription());
+        testCase.setStatus(dto.getStatus());
+        testCase.setPriority(dto.getPriority());
+    }
+
+    public Update toUpdate(TestCasePatchDto dto) {
+        Update update = new Update();
+        if (dto.getTitle() != null) {
+            update.set("title", dto.getTitle());
+        }
+        if (dto.getDescription() != null) {
+            update.set("description", dto.getDescription());
+        }
+        if (dto.getStatus() != null) {
+            update.set("status", dto.getStatus());
+        }
+        if (dto.getPriority() != null) {
+            update.set("priority", dto.getPriority());
+        }
+        return update;
+    }
+
+    public void patchEntity(TestCasePatchDto dto, TestCase testCase) {
+        if (dto.getTitle() != null) {
+            testCase.setTitle(dto.getTitle());
+        }
+        if (dto.getDescription() != null) {
+            testCase.setDescription(dto.getDescription());
+        }
+        if (dto.getStatus() != null) {
+            testCase.setStatus(dto.getStatus());
+        }
+        if (dto.getPriority() != null) {
+            testCase.setPriority(dto.getPriority());
+        }
+    }
+}
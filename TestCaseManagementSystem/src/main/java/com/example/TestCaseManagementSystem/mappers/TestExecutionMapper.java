@@ -0,0 +1,33 @@
+package com.example.TestCaseManagementSystem.mappers;
+
+import com.example.TestCaseManagementSystem.dtos.TestExecutionDto;
+import com.example.TestCaseManagementSystem.entities.TestExecution;
+import org.springframework.stereotype.Component;
+
+/**
+ * Field-by-field mapping between execution results and their DTO. The id is never taken from a request.
+ */
+@Component
+public class TestExecutionMapper {
+
+    public TestExecutionDto toDto(TestExecution execution) {
+        TestExecutionDto dto = new TestExecutionDto();
+        dto.setId(execution.getId());
+        dto.setTestCaseId(execution.getTestCaseId());
+        dto.setStatus(execution.getStatus());
+        dto.setDurationMillis(execution.getDurationMillis());
+        dto.setBuildId(execution.getBuildId());
+        dto.setExecutedAt(execution.getExecutedAt());
+        return dto;
+    }
+
+    public TestExecution toEntity(TestExecutionDto dto) {
+        return TestExecution.builder()
+                .testCaseId(dto.getTestCaseId())
+                .status(dto.getStatus())
+                .durationMillis(dto.getDurationMillis())
+                .buildId(dto.getBuildId())
+                .executedAt(dto.getExecutedAt())
+                .build();
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.TestCaseManagementSystem.pagination;
+
+import com.example.TestCaseManagementSystem.entities.TestCase;
+import com.example.TestCaseManagementSystem.enums.TestCaseSortKey;
+import com.example.TestCaseManagementSystem.exceptions.BadRequestException;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque keyset position: the sort key used for the window plus the (sort value, id) pair of its last element.
+ * A null value is encoded as an empty segment so documents missing the sort field can still be paged through.
+ */
+@Getter
+public class CursorToken {
+
+    private static final String SEPARATOR = "\n";
+
+    private final TestCaseSortKey sortKey;
+    private final Object value;
+    private final String id;
+
+    public CursorToken(TestCaseSortKey sortKey, Object value, String id) {
+        this.sortKey = sortKey;
+        this.value = value;
+        this.id = id;
+    }
+
+    public static CursorToken of(TestCaseSortKey sortKey, TestCase last) {
+        return new CursorToken(sortKey, sortKey.valueOf(last), last.getId());
+    }
+
+    public String encode() {
+        String raw = sortKey.name() + SEPARATOR + (value == null ? "" : value.toString()) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static CursorToken decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, -1);
+            if (parts.length != 3 || parts[2].isEmpty()) {
+                throw new BadRequestException("Invalid cursor");
+            }
+            TestCaseSortKey sortKey = TestCaseSortKey.valueOf(parts[0]);
+            Object value = parts[1].isEmpty() ? null : sortKey.parse(parts[1]);
+            return new CursorToken(sortKey, value, parts[2]);
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.TestCaseManagementSystem.repositories;
+
+import com.example.TestCaseManagementSystem.entities.TestCase;
+import com.example.TestCaseManagementSystem.enums.TestPriority;
+import com.example.TestCaseManagementSystem.enums.TestStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link TestCaseRepository}, used by the "reactive" profile.
+ */
+@Repository
+public interface ReactiveTestCaseRepository extends ReactiveMongoRepository<TestCase, String> {
+    Flux<TestCase> findByStatusAndPriority(TestStatus status, TestPriority priority, Pageable pageable);
+    Flux<TestCase> findByStatus(TestStatus status, Pageable pageable);
+    Flux<TestCase> findByPriority(TestPriority priority, Pageable pageable);
+    Flux<TestCase> findAllBy(Pageable pageable);
+
+    Mono<Long> countByStatusAndPriority(TestStatus status, TestPriority priority);
+    Mono<Long> countByStatus(TestStatus status);
+    Mono<Long> countByPriority(TestPriority priority);
+
+    // Removes the document and emits it, so the caller knows which count cell to decrement
+    Mono<TestCase> deleteTestCaseById(String id);
+}
@@ -5,14 +5,23 @@ import com.example.TestCaseManagementSystem.enums.TestPriority;
 import com.example.TestCaseManagementSystem.enums.TestStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
 
-public interface TestCaseRepository extends MongoRepository<TestCase, String> {
+public interface TestCaseRepository extends MongoRepository<TestCase, String>, TestCaseRepositoryCustom {
 
     Page<TestCase> findByStatusAndPriority(TestStatus status, TestPriority testPriority, Pageable pageable);
 
     Page<TestCase> findByStatus(TestStatus status, Pageable pageable);
 
     Page<TestCase> findByPriority(TestPriority testPriority, Pageable pageable);
+
+    Slice<TestCase> readByStatusAndPriority(TestStatus status, TestPriority testPriority, Pageable pageable);
+
+    Slice<TestCase> readByStatus(TestStatus status, Pageable pageable);
+
+    Slice<TestCase> readByPriority(TestPriority testPriority, Pageable pageable);
+
+    Slice<TestCase> readAllBy(Pageable pageable);
 }
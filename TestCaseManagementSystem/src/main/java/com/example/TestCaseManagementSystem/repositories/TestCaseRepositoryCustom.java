@@ -0,0 +1,114 @@
+package com.example.TestCaseManagementSystem.repositories;
+
+import com.example.TestCaseManagementSystem.dtos.StatusPriorityCount;
+import com.example.TestCaseManagementSystem.dtos.TestCaseDateFilter;
+import com.example.TestCaseManagementSystem.dtos.TestCaseFacets;
+import com.example.TestCaseManagementSystem.entities.TestCase;
+import com.example.TestCaseManagementSystem.entities.TestExecution;
+import com.example.TestCaseManagementSystem.enums.TestCaseSortKey;
+import com.example.TestCaseManagementSystem.enums.TestPriority;
+import com.example.TestCaseManagementSystem.enums.TestStatus;
+import com.example.TestCaseManagementSystem.pagination.CursorToken;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.Pair;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface TestCaseRepositoryCustom {
+
+    List<TestCase> findAfter(TestStatus status, TestPriority priority, TestCaseSortKey sortKey, CursorToken after, int limit);
+
+    /**
+     * Page-number query that also bounds the creation and modification times; null filters are ignored.
+     */
+    Page<TestCase> findFiltered(TestStatus status, TestPriority priority, TestCaseDateFilter dates, Pageable pageable);
+
+    /**
+     * Page-number query that loads only the given fields (plus the id); the others are left null.
+     */
+    Page<TestCase> findProjected(TestStatus status, TestPriority priority, TestCaseDateFilter dates, Collection<String> fields, Pageable pageable);
+
+    /**
+     * Test cases modified after the (updatedAt, id) position of the cursor, or else after {@code since}, and no
+     * later than {@code until}, ordered by updatedAt and id. Served by the updatedAt_id index.
+     */
+    List<TestCase> findChanged(LocalDateTime since, CursorToken after, LocalDateTime until, int limit);
+
+    Optional<TestCase> findProjectedById(String id, Collection<String> fields);
+
+    /**
+     * Text search over title and description, ordered by descending relevance and then by id, continuing after
+     * the given (score, id) position. Runs as one aggregation whose first stage uses the text index.
+     */
+    List<TestCase> search(String text, TestStatus status, TestPriority priority, CursorToken after, int limit);
+
+    /**
+     * One page of the filtered test cases, ordered by creation time and id, together with the total and the
+     * per-status and per-priority counts of the same filter, from a single $facet aggregation.
+     */
+    TestCaseFacets findFaceted(TestStatus status, TestPriority priority, Pageable pageable);
+
+    long estimatedCount();
+
+    List<StatusPriorityCount> countGroupedByStatusAndPriority();
+
+    Optional<TestCase> findAndRemoveById(String id);
+
+    /**
+     * Applies the update atomically, incrementing the version, and returns the document as it was before the
+     * update. With an expected version the document is only modified while it still has that version; otherwise
+     * the result is empty, as for a missing id.
+     */
+    Optional<TestCase> findAndModifyById(String id, Long expectedVersion, Update update);
+
+    /**
+     * Streams matching documents through a server-side cursor; the caller must close the stream.
+     */
+    Stream<TestCase> streamByStatusAndPriority(TestStatus status, TestPriority priority, int batchSize);
+
+    /**
+     * Streams the id and title of every document through a server-side cursor; the caller must close the stream.
+     */
+    Stream<TestCase> streamTitles(int batchSize);
+
+    /**
+     * Loads the status, priority and lastExecutedAt of the given test cases.
+     */
+    List<TestCase> findStatusAndPriorityByIdIn(Collection<String> ids);
+
+    /**
+     * Loads only the fields that make up a test case's HTTP validators, for conditional requests.
+     */
+    Optional<TestCase> findStampById(String id);
+
+    /**
+     * Unordered bulk operations: every operation is attempted and the failures are returned as error messages
+     * keyed by the operation's index in the given list. Inserts start at version 0 and updates increment it.
+     */
+    Map<Integer, String> bulkInsert(List<TestCase> testCases);
+
+    Map<Integer, String> bulkUpdate(List<Pair<String, Update>> updates);
+
+    Map<Integer, String> bulkRemove(List<String> ids);
+
+    /**
+     * Applies each update to the execution's test case only while its stored lastExecutedAt is missing or before the
+     * execution's executedAt, so an older result never overwrites a newer one. Unlike {@link #bulkUpdate} the version
+     * is left to the caller. Errors are keyed by index as for the other bulk operations; an update whose condition
+     * no longer holds is skipped without an error.
+     */
+    Map<Integer, String> bulkUpdateIfExecutedBefore(List<Pair<TestExecution, Update>> updates);
+
+    /**
+     * Sets version 0 on documents written before the version field existed, so that save() treats them as
+     * existing documents. Returns the number of documents changed.
+     */
+    long initializeMissingVersions();
+}
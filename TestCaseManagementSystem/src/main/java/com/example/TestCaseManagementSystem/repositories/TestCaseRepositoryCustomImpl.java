@@ -0,0 +1,332 @@
+package com.example.TestCaseManagementSystem.repositories;
+
+import com.example.TestCaseManagementSystem.dtos.StatusPriorityCount;
+import com.example.TestCaseManagementSystem.dtos.TestCaseDateFilter;
+import com.example.TestCaseManagementSystem.dtos.TestCaseFacets;
+import com.example.TestCaseManagementSystem.entities.TestCase;
+import com.example.TestCaseManagementSystem.entities.TestExecution;
+import com.example.TestCaseManagementSystem.enums.TestCaseSortKey;
+import com.example.TestCaseManagementSystem.enums.TestPriority;
+import com.example.TestCaseManagementSystem.enums.TestStatus;
+import com.example.TestCaseManagementSystem.pagination.CursorToken;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.data.util.Pair;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+public class TestCaseRepositoryCustomImpl implements TestCaseRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public List<TestCase> findAfter(TestStatus status, TestPriority priority, TestCaseSortKey sortKey, CursorToken after, int limit) {
+        Query query = new Query();
+        if (status != null) {
+            query.addCriteria(Criteria.where("status").is(status));
+        }
+        if (priority != null) {
+            query.addCriteria(Criteria.where("priority").is(priority));
+        }
+        if (after != null) {
+            query.addCriteria(keysetCriteria(sortKey.getField(), after.getValue(), after.getId()));
+        }
+        query.with(Sort.by(Sort.Order.asc(sortKey.getField()), Sort.Order.asc("id")));
+        query.limit(limit);
+        return mongoTemplate.find(query, TestCase.class);
+    }
+
+    @Override
+    public Page<TestCase> findFiltered(TestStatus status, TestPriority priority, TestCaseDateFilter dates, Pageable pageable) {
+        Query query = new Query();
+        if (status != null) {
+            query.addCriteria(Criteria.where("status").is(status));
+        }
+        if (priority != null) {
+            query.addCriteria(Criteria.where("priority").is(priority));
+        }
+        addDateCriteria(query, dates);
+        Query countQuery = Query.of(query);
+        query.with(pageable);
+        List<TestCase> content = mongoTemplate.find(query, TestCase.class);
+        return PageableExecutionUtils.getPage(content, pageable, () -> mongoTemplate.count(countQuery, TestCase.class));
+    }
+
+    @Override
+    public Page<TestCase> findProjected(TestStatus status, TestPriority priority, TestCaseDateFilter dates, Collection<String> fields, Pageable pageable) {
+        Query query = new Query();
+        if (status != null) {
+            query.addCriteria(Criteria.where("status").is(status));
+        }
+        if (priority != null) {
+            query.addCriteria(Criteria.where("priority").is(priority));
+        }
+        addDateCriteria(query, dates);
+        Query countQuery = Query.of(query);
+        query.fields().include(fields.toArray(String[]::new));
+        query.with(pageable);
+        List<TestCase> content = mongoTemplate.find(query, TestCase.class);
+        return PageableExecutionUtils.getPage(content, pageable, () -> mongoTemplate.count(countQuery, TestCase.class));
+    }
+
+    @Override
+    public List<TestCase> findChanged(LocalDateTime since, CursorToken after, LocalDateTime until, int limit) {
+        Query query = new Query();
+        if (after == null && since != null) {
+            query.addCriteria(Criteria.where("updatedAt").gt(since).lte(until));
+        } else {
+            // Documents without updatedAt sort first and are still synced, hence not-greater rather than lte
+            query.addCriteria(Criteria.where("updatedAt").not().gt(until));
+            if (after != null) {
+                query.addCriteria(keysetCriteria("updatedAt", after.getValue(), after.getId()));
+            }
+        }
+        query.with(Sort.by(Sort.Order.asc("updatedAt"), Sort.Order.asc("id")));
+        query.limit(limit);
+        return mongoTemplate.find(query, TestCase.class);
+    }
+
+    @Override
+    public Optional<TestCase> findProjectedById(String id, Collection<String> fields) {
+        Query query = Query.query(Criteria.where("id").is(id));
+        query.fields().include(fields.toArray(String[]::new));
+        return Optional.ofNullable(mongoTemplate.findOne(query, TestCase.class));
+    }
+
+    @Override
+    public List<TestCase> search(String text, TestStatus status, TestPriority priority, CursorToken after, int limit) {
+        List<AggregationOperation> operations = new ArrayList<>();
+        // $text must be the first stage for the text index to be used
+        operations.add(Aggregation.match(TextCriteria.forDefaultLanguage().matching(text)));
+        if (status != null) {
+            operations.add(Aggregation.match(Criteria.where("status").is(status)));
+        }
+        if (priority != null) {
+            operations.add(Aggregation.match(Criteria.where("priority").is(priority)));
+        }
+        operations.add(context -> new Document("$addFields", new Document("score", new Document("$meta", "textScore"))));
+        if (after != null) {
+            // (score, _id) after (value, id) in descending score order
+            operations.add(Aggregation.match(new Criteria().orOperator(
+                    Criteria.where("score").lt(after.getValue()),
+                    new Criteria().andOperator(Criteria.where("score").is(after.getValue()), Criteria.where("id").gt(after.getId())))));
+        }
+        operations.add(Aggregation.sort(Sort.by(Sort.Order.desc("score"), Sort.Order.asc("id"))));
+        operations.add(Aggregation.limit(limit));
+        return mongoTemplate.aggregate(Aggregation.newAggregation(TestCase.class, operations), TestCase.class).getMappedResults();
+    }
+
+    @Override
+    public TestCaseFacets findFaceted(TestStatus status, TestPriority priority, Pageable pageable) {
+        List<AggregationOperation> operations = new ArrayList<>();
+        // Only the stages before $facet can use an index: the filter and the sort share the *_createdAt_id indexes
+        if (status != null) {
+            operations.add(Aggregation.match(Criteria.where("status").is(status)));
+        }
+        if (priority != null) {
+            operations.add(Aggregation.match(Criteria.where("priority").is(priority)));
+        }
+        operations.add(Aggregation.sort(Sort.by(Sort.Order.asc("createdAt"), Sort.Order.asc("id"))));
+        operations.add(Aggregation.facet(Aggregation.skip(pageable.getOffset()), Aggregation.limit(pageable.getPageSize())).as("content")
+                .and(Aggregation.count().as("count")).as("total")
+                .and(Aggregation.group("status").count().as("count")).as("byStatus")
+                .and(Aggregation.group("priority").count().as("count")).as("byPriority"));
+        Document facets = mongoTemplate.aggregate(Aggregation.newAggregation(TestCase.class, operations), Document.class)
+                .getUniqueMappedResult();
+
+        List<TestCase> content = facets.getList("content", Document.class).stream()
+                .map(document -> mongoTemplate.getConverter().read(TestCase.class, document))
+                .toList();
+        long total = facets.getList("total", Document.class).stream()
+                .findFirst()
+                .map(document -> document.get("count", Number.class).longValue())
+                .orElse(0L);
+        Map<TestStatus, Long> byStatus = new EnumMap<>(TestStatus.class);
+        for (TestStatus value : TestStatus.values()) {
+            byStatus.put(value, 0L);
+        }
+        Map<TestPriority, Long> byPriority = new EnumMap<>(TestPriority.class);
+        for (TestPriority value : TestPriority.values()) {
+            byPriority.put(value, 0L);
+        }
+        // Documents without a status or priority are grouped under null and left out, as in the count matrix
+        for (Document bucket : facets.getList("byStatus", Document.class)) {
+            if (bucket.get("_id") != null) {
+                byStatus.put(TestStatus.valueOf(bucket.getString("_id")), bucket.get("count", Number.class).longValue());
+            }
+        }
+        for (Document bucket : facets.getList("byPriority", Document.class)) {
+            if (bucket.get("_id") != null) {
+                byPriority.put(TestPriority.valueOf(bucket.getString("_id")), bucket.get("count", Number.class).longValue());
+            }
+        }
+        return new TestCaseFacets(new PageImpl<>(content, pageable, total), byStatus, byPriority);
+    }
+
+    @Override
+    public long estimatedCount() {
+        return mongoTemplate.estimatedCount(TestCase.class);
+    }
+
+    @Override
+    public List<StatusPriorityCount> countGroupedByStatusAndPriority() {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.group("status", "priority").count().as("count"),
+                Aggregation.project("status", "priority", "count").andExclude("_id"));
+        return mongoTemplate.aggregate(aggregation, TestCase.class, StatusPriorityCount.class).getMappedResults();
+    }
+
+    @Override
+    public Optional<TestCase> findAndRemoveById(String id) {
+        return Optional.ofNullable(mongoTemplate.findAndRemove(Query.query(Criteria.where("id").is(id)), TestCase.class));
+    }
+
+    @Override
+    public Optional<TestCase> findAndModifyById(String id, Long expectedVersion, Update update) {
+        Query query = Query.query(Criteria.where("id").is(id));
+        if (expectedVersion != null) {
+            query.addCriteria(Criteria.where("version").is(expectedVersion));
+        }
+        return Optional.ofNullable(mongoTemplate.findAndModify(query, update.inc("version", 1), TestCase.class));
+    }
+
+    @Override
+    public Stream<TestCase> streamByStatusAndPriority(TestStatus status, TestPriority priority, int batchSize) {
+        Query query = new Query();
+        if (status != null) {
+            query.addCriteria(Criteria.where("status").is(status));
+        }
+        if (priority != null) {
+            query.addCriteria(Criteria.where("priority").is(priority));
+        }
+        query.cursorBatchSize(batchSize);
+        return mongoTemplate.stream(query, TestCase.class);
+    }
+
+    @Override
+    public Stream<TestCase> streamTitles(int batchSize) {
+        Query query = new Query();
+        query.fields().include("title");
+        query.cursorBatchSize(batchSize);
+        return mongoTemplate.stream(query, TestCase.class);
+    }
+
+    @Override
+    public List<TestCase> findStatusAndPriorityByIdIn(Collection<String> ids) {
+        Query query = Query.query(Criteria.where("id").in(ids));
+        query.fields().include("status", "priority", "lastExecutedAt");
+        return mongoTemplate.find(query, TestCase.class);
+    }
+
+    @Override
+    public Optional<TestCase> findStampById(String id) {
+        Query query = Query.query(Criteria.where("id").is(id));
+        query.fields().include("updatedAt", "version");
+        return Optional.ofNullable(mongoTemplate.findOne(query, TestCase.class));
+    }
+
+    @Override
+    public Map<Integer, String> bulkInsert(List<TestCase> testCases) {
+        // Bulk inserts bypass the template's version initialisation
+        testCases.stream()
+                .filter(testCase -> testCase.getVersion() == null)
+                .forEach(testCase -> testCase.setVersion(0L));
+        BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, TestCase.class);
+        operations.insert(testCases);
+        return execute(operations);
+    }
+
+    @Override
+    public Map<Integer, String> bulkUpdate(List<Pair<String, Update>> updates) {
+        BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, TestCase.class);
+        updates.forEach(update -> operations.updateOne(Query.query(Criteria.where("id").is(update.getFirst())),
+                update.getSecond().inc("version", 1)));
+        return execute(operations);
+    }
+
+    @Override
+    public Map<Integer, String> bulkRemove(List<String> ids) {
+        BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, TestCase.class);
+        ids.forEach(id -> operations.remove(Query.query(Criteria.where("id").is(id))));
+        return execute(operations);
+    }
+
+    @Override
+    public Map<Integer, String> bulkUpdateIfExecutedBefore(List<Pair<TestExecution, Update>> updates) {
+        BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, TestCase.class);
+        updates.forEach(update -> operations.updateOne(Query.query(Criteria.where("id").is(update.getFirst().getTestCaseId())
+                        .orOperator(Criteria.where("lastExecutedAt").is(null),
+                                Criteria.where("lastExecutedAt").lt(update.getFirst().getExecutedAt()))),
+                update.getSecond()));
+        return execute(operations);
+    }
+
+    @Override
+    public long initializeMissingVersions() {
+        return mongoTemplate.updateMulti(Query.query(Criteria.where("version").exists(false)),
+                new Update().set("version", 0L), TestCase.class).getModifiedCount();
+    }
+
+    private Map<Integer, String> execute(BulkOperations operations) {
+        Map<Integer, String> errors = new HashMap<>();
+        try {
+            operations.execute();
+        } catch (BulkOperationException ex) {
+            ex.getErrors().forEach(error -> errors.put(error.getIndex(), error.getMessage()));
+        }
+        return errors;
+    }
+
+    private static void addDateCriteria(Query query, TestCaseDateFilter dates) {
+        if (dates == null) {
+            return;
+        }
+        addRangeCriteria(query, "createdAt", dates.getCreatedFrom(), dates.getCreatedTo());
+        addRangeCriteria(query, "updatedAt", dates.getUpdatedFrom(), dates.getUpdatedTo());
+    }
+
+    private static void addRangeCriteria(Query query, String field, LocalDateTime from, LocalDateTime to) {
+        if (from != null && to != null) {
+            query.addCriteria(Criteria.where(field).gte(from).lt(to));
+        } else if (from != null) {
+            query.addCriteria(Criteria.where(field).gte(from));
+        } else if (to != null) {
+            query.addCriteria(Criteria.where(field).lt(to));
+        }
+    }
+
+    // (field, _id) > (value, id); nulls sort first in Mongo, and $gt never matches across the null type bracket
+    private Criteria keysetCriteria(String field, Object value, String id) {
+        if (value == null) {
+            return new Criteria().orOperator(
+                    Criteria.where(field).ne(null),
+                    new Criteria().andOperator(Criteria.where(field).is(null), Criteria.where("id").gt(id)));
+        }
+        return new Criteria().orOperator(
+                Criteria.where(field).gt(value),
+                new Criteria().andOperator(Criteria.where(field).is(value), Criteria.where("id").gt(id)));
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.TestCaseManagementSystem.repositories;
+
+import com.example.TestCaseManagementSystem.entities.TestExecution;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.util.List;
+
+public interface TestExecutionRepository extends MongoRepository<TestExecution, String>, TestExecutionRepositoryCustom {
+
+    List<TestExecution> findByTestCaseIdOrderByExecutedAtDesc(String testCaseId, Pageable pageable);
+}
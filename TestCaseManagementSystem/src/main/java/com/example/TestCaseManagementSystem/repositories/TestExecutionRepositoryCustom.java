@@ -0,0 +1,21 @@
+package com.example.TestCaseManagementSystem.repositories;
+
+import com.example.TestCaseManagementSystem.entities.TestExecution;
+
+import java.util.List;
+import java.util.Map;
+
+public interface TestExecutionRepositoryCustom {
+
+    /**
+     * Creates the time-series collection and its (testCaseId, executedAt) index unless the collection exists.
+     * Returns whether it was created.
+     */
+    boolean createCollectionIfMissing();
+
+    /**
+     * Unordered bulk insert: every execution is attempted and the failures are returned as error messages keyed
+     * by the execution's index in the given list.
+     */
+    Map<Integer, String> bulkInsert(List<TestExecution> executions);
+}
@@ -0,0 +1,46 @@
+package com.example.TestCaseManagementSystem.repositories;
+
+import com.example.TestCaseManagementSystem.entities.TestExecution;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class TestExecutionRepositoryCustomImpl implements TestExecutionRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public boolean createCollectionIfMissing() {
+        if (mongoTemplate.collectionExists(TestExecution.class)) {
+            return false;
+        }
+        // Picks up the @TimeSeries options of the entity
+        mongoTemplate.createCollection(TestExecution.class);
+        mongoTemplate.indexOps(TestExecution.class).ensureIndex(new Index()
+                .on("testCaseId", Sort.Direction.ASC)
+                .on("executedAt", Sort.Direction.DESC)
+                .named("testCaseId_executedAt"));
+        return true;
+    }
+
+    @Override
+    public Map<Integer, String> bulkInsert(List<TestExecution> executions) {
+        BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, TestExecution.class);
+        operations.insert(executions);
+        Map<Integer, String> errors = new HashMap<>();
+        try {
+            operations.execute();
+        } catch (BulkOperationException ex) {
+            ex.getErrors().forEach(error -> errors.put(error.getIndex(), error.getMessage()));
+        }
+        return errors;
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.TestCaseManagementSystem.services;
+
+import com.example.TestCaseManagementSystem.dtos.TestCaseDto;
+import com.example.TestCaseManagementSystem.dtos.TestCaseRequestDto;
+import com.example.TestCaseManagementSystem.dtos.TestCaseStatsDto;
+import com.example.TestCaseManagementSystem.entities.TestCase;
+import com.example.TestCaseManagementSystem.enums.TestPriority;
+import com.example.TestCaseManagementSystem.enums.TestStatus;
+import com.example.TestCaseManagementSystem.exceptions.ConflictException;
+import com.example.TestCaseManagementSystem.exceptions.ResourceNotFoundException;
+import com.example.TestCaseManagementSystem.mappers.TestCaseMapper;
+import com.example.TestCaseManagementSystem.repositories.ReactiveTestCaseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.LocalDateTime;
+
+/**
+ * Reactive counterpart of {@link TestCaseService}: same behaviour, but no call blocks the event loop. The count
+ * matrix is shared with the blocking side, so {@code /stats} stays exact whichever stack served the writes.
+ */
+@Service
+@Profile("reactive")
+@Slf4j
+public class ReactiveTestCaseService {
+
+    private final ReactiveTestCaseRepository repository;
+    private final TestCaseMapper mapper;
+    private final TestCaseCounts counts;
+    private final int maxUpdateAttempts;
+
+    public ReactiveTestCaseService(ReactiveTestCaseRepository repository, TestCaseMapper mapper, TestCaseCounts counts,
+                                   @Value("${testcases.update.max-attempts:3}") int maxUpdateAttempts) {
+        this.repository = repository;
+        this.mapper = mapper;
+        this.counts = counts;
+        this.maxUpdateAttempts = maxUpdateAttempts;
+    }
+
+    public Mono<Page<TestCaseDto>> getTestCases(TestStatus status, TestPriority priority, Pageable pageable) {
+        log.info("Fetching test cases with status {} and priority {} for page {}", status, priority, pageable.getPageNumber());
+        Flux<TestCase> cases;
+        Mono<Long> total;
+        if (status != null && priority != null) {
+            cases = repository.findByStatusAndPriority(status, priority, pageable);
+            total = repository.countByStatusAndPriority(status, priority);
+        } else if(status != null) {
+            cases = repository.findByStatus(status, pageable);
+            total = repository.countByStatus(status);
+        } else if(priority != null) {
+            cases = repository.findByPriority(priority, pageable);
+            total = repository.countByPriority(priority);
+        } else {
+            cases = repository.findAllBy(pageable);
+            total = repository.count();
+        }
+        // The window and the count run concurrently rather than one after the other
+        return Mono.zip(cases.map(mapper::toDto).collectList(), total)
+                .map(tuple -> (Page<TestCaseDto>) new PageImpl<>(tuple.getT1(), pageable, tuple.getT2()))
+                .doOnNext(page -> log.debug("Retrieved {} test cases", page.getTotalElements()));
+    }
+
+    public Mono<TestCaseStatsDto> getTestCaseStats() {
+        log.info("Fetching test case counts by status and priority");
+        return Mono.fromSupplier(counts::snapshot);
+    }
+
+    public Mono<TestCaseDto> getTestCaseById(String id) {
+        log.info("Fetching test case with id {}", id);
+        return findExisting(id)
+                .doOnNext(testCase -> log.debug("Found test case with id {}", id))
+                .map(mapper::toDto);
+    }
+
+    public Mono<TestCaseDto> createTestCase(TestCaseRequestDto dto) {
+        log.info("Creating new test case with title {}", dto.getTitle());
+        TestCase testCase = mapper.toEntity(dto);
+        testCase.setCreatedAt(LocalDateTime.now());
+        testCase.setUpdatedAt(LocalDateTime.now());
+        return repository.save(testCase)
+                .doOnNext(saved -> {
+                    counts.increment(saved.getStatus(), saved.getPriority());
+                    log.debug("Created test case with id {}", saved.getId());
+                })
+                .map(mapper::toDto);
+    }
+
+    /**
+     * Replaces the fields of a test case. Like the blocking update, given an expected version (from If-Match) the
+     * write only applies to that version and fails with a conflict otherwise; without one, a save that loses a race
+     * with another writer is re-applied to the fresh document, up to {@code testcases.update.max-attempts} times in
+     * total, and then fails with a conflict.
+     */
+    public Mono<TestCaseDto> updateTestCase(String id, TestCaseRequestDto dto, Long expectedVersion) {
+        log.info("Updating test case with id {}", id);
+        return Mono.defer(() -> findExisting(id))
+                .flatMap(existing -> {
+                    if (expectedVersion != null && !expectedVersion.equals(existing.getVersion())) {
+                        log.warn("Test case with id {} is at version {}, expected {}", id, existing.getVersion(), expectedVersion);
+                        return Mono.error(new ConflictException("Test case was modified concurrently"));
+                    }
+                    TestStatus previousStatus = existing.getStatus();
+                    TestPriority previousPriority = existing.getPriority();
+                    mapper.updateEntity(dto, existing);
+                    existing.setUpdatedAt(LocalDateTime.now());
+                    return repository.save(existing)
+                            .doOnNext(updated -> counts.move(previousStatus, previousPriority, updated.getStatus(), updated.getPriority()));
+                })
+                .retryWhen(Retry.max(expectedVersion == null ? maxUpdateAttempts - 1 : 0)
+                        .filter(OptimisticLockingFailureException.class::isInstance)
+                        .doBeforeRetry(retry -> log.debug("Retrying update of test case with id {} after a concurrent write", id))
+                        .onRetryExhaustedThrow((spec, retry) -> {
+                            log.warn("Giving up updating test case with id {} after {} concurrent writes", id, retry.totalRetries() + 1);
+                            return new ConflictException("Test case was modified concurrently");
+                        }))
+                .doOnNext(updated -> log.debug("Updated test case with id {}", updated.getId()))
+                .map(mapper::toDto);
+    }
+
+    public Mono<Void> deleteTestCase(String id) {
+        log.info("Deleting test case with id {}", id);
+        return repository.deleteTestCaseById(id)
+                .doOnNext(deleted -> counts.decrement(deleted.getStatus(), deleted.getPriority()))
+                .doOnTerminate(() -> log.debug("Deleted test case with id {}", id))
+                .then();
+    }
+
+    private Mono<TestCase> findExisting(String id) {
+        return repository.findById(id)
+                .switchIfEmpty(Mono.defer(() -> {
+                    log.error("Test case not found with id {}", id);
+                    return Mono.error(new ResourceNotFoundException("Test case not found"));
+                }));
+    }
+}
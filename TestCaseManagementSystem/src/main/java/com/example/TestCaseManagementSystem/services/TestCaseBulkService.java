@@ -0,0 +1,232 @@
+package com.example.TestCaseManagementSystem.services;
+
+import com.example.TestCaseManagementSystem.dtos.BulkItemResultDto;
+import com.example.TestCaseManagementSystem.dtos.TestCaseRequestDto;
+import com.example.TestCaseManagementSystem.entities.TestCase;
+import com.example.TestCaseManagementSystem.enums.BulkItemStatus;
+import com.example.TestCaseManagementSystem.mappers.TestCaseMapper;
+import com.example.TestCaseManagementSystem.repositories.TestCaseRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.Pair;
+import org.springframework.stereotype.Service;
+import org.springframework.util.Assert;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Batch counterparts of the single-item write paths. Items are validated one by one, then written in chunks of
+ * {@code testcases.bulk.chunk-size} as unordered bulk writes, so one bad item never blocks the rest and every
+ * item gets its own outcome in the result.
+ */
+@Service
+@Slf4j
+public class TestCaseBulkService {
+
+    private final TestCaseRepository repository;
+    private final TestCaseMapper mapper;
+    private final TestCaseCounts counts;
+    private final TestCaseCache cache;
+    private final TestCasePageCache pageCache;
+    private final TestCaseTitleIndex titleIndex;
+    private final TestCaseWriteBehindBuffer writeBehind;
+    private final Validator validator;
+    private final int chunkSize;
+
+    public TestCaseBulkService(TestCaseRepository repository, TestCaseMapper mapper, TestCaseCounts counts,
+                               TestCaseCache cache, TestCasePageCache pageCache, TestCaseTitleIndex titleIndex,
+                               TestCaseWriteBehindBuffer writeBehind, Validator validator,
+                               @Value("${testcases.bulk.chunk-size:1000}") int chunkSize) {
+        Assert.isTrue(chunkSize > 0, "testcases.bulk.chunk-size must be at least 1");
+        this.repository = repository;
+        this.mapper = mapper;
+        this.counts = counts;
+        this.cache = cache;
+        this.pageCache = pageCache;
+        this.titleIndex = titleIndex;
+        this.writeBehind = writeBehind;
+        this.validator = validator;
+        this.chunkSize = chunkSize;
+    }
+
+    public List<BulkItemResultDto> createTestCases(List<TestCaseRequestDto> dtos) {
+        log.info("Bulk creating {} test cases", dtos.size());
+        BulkItemResultDto[] results = new BulkItemResultDto[dtos.size()];
+        List<Integer> valid = new ArrayList<>();
+        for (int i = 0; i < dtos.size(); i++) {
+            String violation = firstViolation(dtos.get(i));
+            if (violation != null) {
+                results[i] = new BulkItemResultDto(i, null, BulkItemStatus.INVALID, violation);
+            } else {
+                valid.add(i);
+            }
+        }
+        for (List<Integer> chunk : chunks(valid)) {
+            // Stamped per chunk, so the change feed's settle window covers one chunk and not the whole request
+            LocalDateTime now = LocalDateTime.now();
+            List<TestCase> testCases = new ArrayList<>(chunk.size());
+            for (int index : chunk) {
+                TestCase testCase = mapper.toEntity(dtos.get(index));
+                // Ids are assigned up front so every item can be reported, whether or not its insert succeeds
+                testCase.setId(new ObjectId().toHexString());
+                testCase.setCreatedAt(now);
+                testCase.setUpdatedAt(now);
+                testCases.add(testCase);
+            }
+            Map<Integer, String> errors = repository.bulkInsert(testCases);
+            for (int j = 0; j < chunk.size(); j++) {
+                TestCase testCase = testCases.get(j);
+                int index = chunk.get(j);
+                if (errors.containsKey(j)) {
+                    results[index] = new BulkItemResultDto(index, testCase.getId(), BulkItemStatus.FAILED, errors.get(j));
+                } else {
+                    counts.increment(testCase.getStatus(), testCase.getPriority());
+                    pageCache.invalidate(testCase.getStatus(), testCase.getPriority());
+                    titleIndex.put(testCase.getId(), testCase.getTitle());
+                    results[index] = new BulkItemResultDto(index, testCase.getId(), BulkItemStatus.CREATED, null);
+                }
+            }
+        }
+        log.debug("Bulk created {} test cases", valid.size());
+        return Arrays.asList(results);
+    }
+
+    public List<BulkItemResultDto> updateTestCases(List<TestCaseRequestDto> dtos) {
+        log.info("Bulk updating {} test cases", dtos.size());
+        BulkItemResultDto[] results = new BulkItemResultDto[dtos.size()];
+        List<Integer> valid = new ArrayList<>();
+        for (int i = 0; i < dtos.size(); i++) {
+            TestCaseRequestDto dto = dtos.get(i);
+            String violation = isBlank(dto.getId()) ? "Id is required" : firstViolation(dto);
+            if (violation != null) {
+                results[i] = new BulkItemResultDto(i, dto.getId(), BulkItemStatus.INVALID, violation);
+            } else {
+                valid.add(i);
+            }
+        }
+        for (List<Integer> chunk : chunks(valid)) {
+            LocalDateTime now = LocalDateTime.now();
+            List<String> chunkIds = chunk.stream().map(index -> dtos.get(index).getId()).toList();
+            // Buffered PUTs go first, so they cannot overwrite this chunk when they are flushed later
+            writeBehind.flush(chunkIds);
+            // One projected $in read per chunk finds missing ids and the previous cells for the count matrix
+            Map<String, TestCase> existing = findExisting(chunkIds);
+            List<Integer> applied = new ArrayList<>();
+            List<Pair<String, Update>> updates = new ArrayList<>();
+            for (int index : chunk) {
+                TestCaseRequestDto dto = dtos.get(index);
+                if (!existing.containsKey(dto.getId())) {
+                    results[index] = new BulkItemResultDto(index, dto.getId(), BulkItemStatus.NOT_FOUND, "Test case not found");
+                    continue;
+                }
+                applied.add(index);
+                updates.add(Pair.of(dto.getId(), new Update()
+                        .set("title", dto.getTitle())
+                        .set("description", dto.getDescription())
+                        .set("status", dto.getStatus())
+                        .set("priority", dto.getPriority())
+                        .set("updatedAt", now)));
+            }
+            Map<Integer, String> errors = updates.isEmpty() ? Map.of() : repository.bulkUpdate(updates);
+            cache.invalidateAll(updates.stream().map(Pair::getFirst).toList());
+            for (int j = 0; j < applied.size(); j++) {
+                int index = applied.get(j);
+                TestCaseRequestDto dto = dtos.get(index);
+                if (errors.containsKey(j)) {
+                    results[index] = new BulkItemResultDto(index, dto.getId(), BulkItemStatus.FAILED, errors.get(j));
+                    continue;
+                }
+                TestCase previous = existing.get(dto.getId());
+                counts.move(previous.getStatus(), previous.getPriority(), dto.getStatus(), dto.getPriority());
+                pageCache.invalidate(previous.getStatus(), previous.getPriority(), dto.getStatus(), dto.getPriority());
+                titleIndex.put(dto.getId(), dto.getTitle());
+                previous.setStatus(dto.getStatus());
+                previous.setPriority(dto.getPriority());
+                results[index] = new BulkItemResultDto(index, dto.getId(), BulkItemStatus.UPDATED, null);
+            }
+        }
+        log.debug("Bulk updated test cases");
+        return Arrays.asList(results);
+    }
+
+    public List<BulkItemResultDto> deleteTestCases(List<TestCaseRequestDto> dtos) {
+        log.info("Bulk deleting {} test cases", dtos.size());
+        BulkItemResultDto[] results = new BulkItemResultDto[dtos.size()];
+        List<Integer> valid = new ArrayList<>();
+        for (int i = 0; i < dtos.size(); i++) {
+            if (isBlank(dtos.get(i).getId())) {
+                results[i] = new BulkItemResultDto(i, null, BulkItemStatus.INVALID, "Id is required");
+            } else {
+                valid.add(i);
+            }
+        }
+        Set<String> removed = new HashSet<>();
+        for (List<Integer> chunk : chunks(valid)) {
+            List<String> chunkIds = chunk.stream().map(index -> dtos.get(index).getId()).toList();
+            writeBehind.discard(chunkIds);
+            Map<String, TestCase> existing = findExisting(chunkIds);
+            List<Integer> applied = new ArrayList<>();
+            List<String> ids = new ArrayList<>();
+            for (int index : chunk) {
+                String id = dtos.get(index).getId();
+                if (!existing.containsKey(id) || !removed.add(id)) {
+                    results[index] = new BulkItemResultDto(index, id, BulkItemStatus.NOT_FOUND, "Test case not found");
+                    continue;
+                }
+                applied.add(index);
+                ids.add(id);
+            }
+            Map<Integer, String> errors = ids.isEmpty() ? Map.of() : repository.bulkRemove(ids);
+            cache.invalidateAll(ids);
+            for (int j = 0; j < applied.size(); j++) {
+                int index = applied.get(j);
+                String id = ids.get(j);
+                if (errors.containsKey(j)) {
+                    results[index] = new BulkItemResultDto(index, id, BulkItemStatus.FAILED, errors.get(j));
+                    continue;
+                }
+                TestCase previous = existing.get(id);
+                counts.decrement(previous.getStatus(), previous.getPriority());
+                pageCache.invalidate(previous.getStatus(), previous.getPriority());
+                titleIndex.remove(id);
+                results[index] = new BulkItemResultDto(index, id, BulkItemStatus.DELETED, null);
+            }
+        }
+        log.debug("Bulk deleted {} test cases", removed.size());
+        return Arrays.asList(results);
+    }
+
+    private Map<String, TestCase> findExisting(List<String> ids) {
+        return repository.findStatusAndPriorityByIdIn(new HashSet<>(ids)).stream()
+                .collect(Collectors.toMap(TestCase::getId, Function.identity()));
+    }
+
+    private String firstViolation(TestCaseRequestDto dto) {
+        Set<ConstraintViolation<TestCaseRequestDto>> violations = validator.validate(dto);
+        return violations.isEmpty() ? null : violations.iterator().next().getMessage();
+    }
+
+    private List<List<Integer>> chunks(List<Integer> indexes) {
+        List<List<Integer>> chunks = new ArrayList<>();
+        for (int from = 0; from < indexes.size(); from += chunkSize) {
+            chunks.add(indexes.subList(from, Math.min(from + chunkSize, indexes.size())));
+        }
+        return chunks;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
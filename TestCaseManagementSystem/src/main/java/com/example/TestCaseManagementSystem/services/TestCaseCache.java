@@ -0,0 +1,64 @@
+package com.example.TestCaseManagementSystem.services;
+
+import com.example.TestCaseManagementSystem.dtos.CacheStatsDto;
+import com.example.TestCaseManagementSystem.dtos.TestCaseDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.function.Function;
+
+/**
+ * Read-through cache of single test cases by id. Caffeine bounds it to {@code testcases.cache.maximum-size}
+ * entries and admits by W-TinyLFU, so a burst of one-off reads cannot push out the hot ids that CI tooling polls.
+ * Writers invalidate the ids they touch; {@code testcases.cache.expire-after-write} bounds how long writes made by
+ * other replicas can go unseen. Cached DTOs are shared between callers and must not be modified.
+ */
+@Component
+public class TestCaseCache {
+
+    private final Cache<String, TestCaseDto> cache;
+    private final long maximumSize;
+
+    public TestCaseCache(@Value("${testcases.cache.maximum-size:10000}") long maximumSize,
+                         @Value("${testcases.cache.expire-after-write:PT10M}") Duration expireAfterWrite) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Returns the cached test case, or loads it; a loader returning null (not found) caches nothing.
+     */
+    public TestCaseDto get(String id, Function<String, TestCaseDto> loader) {
+        return cache.get(id, loader);
+    }
+
+    /**
+     * Returns the cached test case without loading it, or null.
+     */
+    public TestCaseDto getIfPresent(String id) {
+        return cache.getIfPresent(id);
+    }
+
+    public void invalidate(String id) {
+        cache.invalidate(id);
+    }
+
+    public void invalidateAll(Collection<String> ids) {
+        cache.invalidateAll(ids);
+    }
+
+    public CacheStatsDto stats() {
+        CacheStats stats = cache.stats();
+        return new CacheStatsDto(stats.hitCount(), stats.missCount(), stats.hitRate(), stats.evictionCount(),
+                cache.estimatedSize(), maximumSize);
+    }
+}
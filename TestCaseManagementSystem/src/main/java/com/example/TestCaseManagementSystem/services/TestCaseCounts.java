@@ -0,0 +1,131 @@
+package com.example.TestCaseManagementSystem.services;
+
+import com.example.TestCaseManagementSystem.dtos.StatusPriorityCount;
+import com.example.TestCaseManagementSystem.dtos.TestCaseStatsDto;
+import com.example.TestCaseManagementSystem.enums.TestPriority;
+import com.example.TestCaseManagementSystem.enums.TestStatus;
+import com.example.TestCaseManagementSystem.repositories.TestCaseRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Live status x priority count matrix. It is seeded from a single $group aggregation once the application is
+ * ready, kept current by the write paths in {@link TestCaseService}, and periodically reconciled against Mongo
+ * to correct drift from concurrent writers and other replicas. Documents without a status or priority are not
+ * part of any cell.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TestCaseCounts {
+
+    private static final int PRIORITIES = TestPriority.values().length;
+
+    private final TestCaseRepository repository;
+    private final AtomicLongArray cells = new AtomicLongArray(TestStatus.values().length * PRIORITIES);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        reconcile();
+    }
+
+    @Scheduled(fixedDelayString = "${testcases.counts.reconcile-interval:PT5M}",
+            initialDelayString = "${testcases.counts.reconcile-interval:PT5M}")
+    public void reconcile() {
+        long[] before = new long[cells.length()];
+        for (int i = 0; i < before.length; i++) {
+            before[i] = cells.get(i);
+        }
+        long[] fresh = new long[cells.length()];
+        for (StatusPriorityCount row : repository.countGroupedByStatusAndPriority()) {
+            if (row.getStatus() != null && row.getPriority() != null) {
+                fresh[index(row.getStatus(), row.getPriority())] = row.getCount();
+            }
+        }
+        // Shift each cell by its drift as of the snapshot rather than overwriting it, so increments and decrements
+        // made while the aggregation ran are kept. A write that reached Mongo before the aggregation but adjusted its
+        // cell after the snapshot is counted twice until the next reconcile.
+        for (int i = 0; i < fresh.length; i++) {
+            long drift = fresh[i] - before[i];
+            if (drift != 0) {
+                cells.addAndGet(i, drift);
+                log.debug("Reconciled count cell {} by {}", i, drift);
+            }
+        }
+        log.info("Reconciled test case counts");
+    }
+
+    public void increment(TestStatus status, TestPriority priority) {
+        if (status != null && priority != null) {
+            cells.incrementAndGet(index(status, priority));
+        }
+    }
+
+    public void decrement(TestStatus status, TestPriority priority) {
+        if (status != null && priority != null) {
+            cells.decrementAndGet(index(status, priority));
+        }
+    }
+
+    public void move(TestStatus fromStatus, TestPriority fromPriority, TestStatus toStatus, TestPriority toPriority) {
+        if (fromStatus != toStatus || fromPriority != toPriority) {
+            decrement(fromStatus, fromPriority);
+            increment(toStatus, toPriority);
+        }
+    }
+
+    public long count(TestStatus status, TestPriority priority) {
+        long total = 0;
+        for (TestStatus s : TestStatus.values()) {
+            for (TestPriority p : TestPriority.values()) {
+                if ((status == null || status == s) && (priority == null || priority == p)) {
+                    total += cells.get(index(s, p));
+                }
+            }
+        }
+        return total;
+    }
+
+    public long estimate(TestStatus status, TestPriority priority) {
+        if (status == null && priority == null) {
+            return repository.estimatedCount();
+        }
+        return count(status, priority);
+    }
+
+    public TestCaseStatsDto snapshot() {
+        Map<TestStatus, Map<TestPriority, Long>> matrix = new EnumMap<>(TestStatus.class);
+        Map<TestStatus, Long> byStatus = new EnumMap<>(TestStatus.class);
+        Map<TestPriority, Long> byPriority = new EnumMap<>(TestPriority.class);
+        long total = 0;
+        for (TestStatus s : TestStatus.values()) {
+            Map<TestPriority, Long> row = new EnumMap<>(TestPriority.class);
+            for (TestPriority p : TestPriority.values()) {
+                long value = cells.get(index(s, p));
+                row.put(p, value);
+                byStatus.merge(s, value, Long::sum);
+                byPriority.merge(p, value, Long::sum);
+                total += value;
+            }
+            matrix.put(s, row);
+        }
+        TestCaseStatsDto stats = new TestCaseStatsDto();
+        stats.setCounts(matrix);
+        stats.setByStatus(byStatus);
+        stats.setByPriority(byPriority);
+        stats.setTotal(total);
+        return stats;
+    }
+
+    private static int index(TestStatus status, TestPriority priority) {
+        return status.ordinal() * PRIORITIES + priority.ordinal();
+    }
+}
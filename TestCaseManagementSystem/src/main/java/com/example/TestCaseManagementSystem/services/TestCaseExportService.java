@@ -0,0 +1,84 @@
+package com.example.TestCaseManagementSystem.services;
+
+import com.example.TestCaseManagementSystem.dtos.TestCaseDto;
+import com.example.TestCaseManagementSystem.entities.TestCase;
+import com.example.TestCaseManagementSystem.enums.ExportFormat;
+import com.example.TestCaseManagementSystem.enums.TestPriority;
+import com.example.TestCaseManagementSystem.enums.TestStatus;
+import com.example.TestCaseManagementSystem.mappers.TestCaseMapper;
+import com.example.TestCaseManagementSystem.repositories.TestCaseRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.Assert;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Writes the collection as newline-delimited JSON, or as a stream of Smile or CBOR values, straight from a Mongo
+ * cursor. Only one cursor batch and the generator's buffer are held at a time, so heap use does not grow with the
+ * size of the export.
+ *
+ * <p>An export may legitimately stream for minutes, so it runs under its own async timeout,
+ * {@code testcases.export.timeout}; every other async request keeps the container default.
+ */
+@Service
+@Slf4j
+public class TestCaseExportService {
+
+    private final TestCaseRepository repository;
+    private final TestCaseMapper mapper;
+    private final Map<ExportFormat, ObjectWriter> writers = new EnumMap<>(ExportFormat.class);
+    private final int batchSize;
+    private final Duration timeout;
+
+    public TestCaseExportService(TestCaseRepository repository, TestCaseMapper mapper, ObjectMapper objectMapper,
+                                 @Value("${testcases.export.batch-size:500}") int batchSize,
+                                 @Value("${testcases.export.timeout:PT30M}") Duration timeout) {
+        Assert.isTrue(timeout.compareTo(Duration.ZERO) > 0, "testcases.export.timeout must be positive");
+        this.repository = repository;
+        this.mapper = mapper;
+        for (ExportFormat format : ExportFormat.values()) {
+            writers.put(format, objectMapper.copyWith(format.newFactory())
+                    .writerFor(TestCaseDto.class)
+                    .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE));
+        }
+        this.batchSize = batchSize;
+        this.timeout = timeout;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public long exportTestCases(TestStatus status, TestPriority priority, ExportFormat format, OutputStream out)
+            throws IOException {
+        log.info("Exporting test cases with status {} and priority {} as {}", status, priority, format);
+        ObjectWriter writer = writers.get(format);
+        long exported = 0;
+        try (Stream<TestCase> cases = repository.streamByStatusAndPriority(status, priority, batchSize);
+             JsonGenerator generator = writer.createGenerator(out).disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            Iterator<TestCase> iterator = cases.iterator();
+            while (iterator.hasNext()) {
+                writer.writeValue(generator, mapper.toDto(iterator.next()));
+                // Smile and CBOR values are self-delimiting
+                if (!format.isBinary()) {
+                    generator.writeRaw('\n');
+                }
+                exported++;
+            }
+        }
+        log.debug("Exported {} test cases", exported);
+        return exported;
+    }
+}
@@ -0,0 +1,237 @@
+package com.example.TestCaseManagementSystem.services;
+
+import com.example.TestCaseManagementSystem.dtos.ImportReportDto;
+import com.example.TestCaseManagementSystem.dtos.ImportRowErrorDto;
+import com.example.TestCaseManagementSystem.dtos.TestCaseRequestDto;
+import com.example.TestCaseManagementSystem.entities.TestCase;
+import com.example.TestCaseManagementSystem.mappers.TestCaseMapper;
+import com.example.TestCaseManagementSystem.repositories.TestCaseRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.util.Assert;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Imports test cases from an NDJSON or CSV body while it is still being received. Rows are parsed and validated
+ * one at a time, valid rows are inserted in unordered batches on the application task executor, and at most
+ * {@code testcases.import.max-in-flight-batches} batches are outstanding: once that many are in flight the
+ * parser stops reading the request, which pushes back on the client instead of buffering its data.
+ */
+@Service
+@Slf4j
+public class TestCaseImportService {
+
+    private final TestCaseRepository repository;
+    private final TestCaseMapper mapper;
+    private final TestCaseCounts counts;
+    private final TestCasePageCache pageCache;
+    private final TestCaseTitleIndex titleIndex;
+    private final Validator validator;
+    private final AsyncTaskExecutor executor;
+    private final ObjectReader jsonReader;
+    private final ObjectReader csvReader;
+    private final int batchSize;
+    private final int maxInFlightBatches;
+    private final int maxReportedErrors;
+
+    public TestCaseImportService(TestCaseRepository repository, TestCaseMapper mapper, TestCaseCounts counts,
+                                 TestCasePageCache pageCache, TestCaseTitleIndex titleIndex, Validator validator,
+                                 ObjectMapper objectMapper,
+                                 @Qualifier("applicationTaskExecutor") AsyncTaskExecutor executor,
+                                 @Value("${testcases.import.batch-size:1000}") int batchSize,
+                                 @Value("${testcases.import.max-in-flight-batches:4}") int maxInFlightBatches,
+                                 @Value("${testcases.import.max-reported-errors:1000}") int maxReportedErrors) {
+        Assert.isTrue(batchSize > 0, "testcases.import.batch-size must be at least 1");
+        Assert.isTrue(maxInFlightBatches > 0, "testcases.import.max-in-flight-batches must be at least 1");
+        this.repository = repository;
+        this.mapper = mapper;
+        this.counts = counts;
+        this.pageCache = pageCache;
+        this.titleIndex = titleIndex;
+        this.validator = validator;
+        this.executor = executor;
+        this.jsonReader = objectMapper.readerFor(TestCaseRequestDto.class);
+        this.csvReader = new CsvMapper().readerFor(TestCaseRequestDto.class).with(CsvSchema.emptySchema().withHeader());
+        this.batchSize = batchSize;
+        this.maxInFlightBatches = maxInFlightBatches;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    public ImportReportDto importNdjson(InputStream in) throws IOException {
+        log.info("Importing test cases from NDJSON");
+        ImportRun run = new ImportRun();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        long row = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            row++;
+            try {
+                TestCaseRequestDto dto = jsonReader.readValue(line);
+                if (dto == null) {
+                    // A literal null line parses fine but is no request object
+                    run.reject(row, "Malformed row: expected an object, got null");
+                } else {
+                    run.accept(row, dto);
+                }
+            } catch (JsonProcessingException ex) {
+                run.reject(row, "Malformed row: " + ex.getOriginalMessage());
+            }
+        }
+        return run.finish(row);
+    }
+
+    public ImportReportDto importCsv(InputStream in) throws IOException {
+        log.info("Importing test cases from CSV");
+        ImportRun run = new ImportRun();
+        long row = 0;
+        try (MappingIterator<TestCaseRequestDto> rows = csvReader.readValues(in)) {
+            while (true) {
+                try {
+                    if (!rows.hasNextValue()) {
+                        break;
+                    }
+                    row++;
+                    run.accept(row, rows.nextValue());
+                } catch (JsonProcessingException ex) {
+                    // The iterator resynchronises on the next record, so one bad row does not end the import
+                    run.reject(row, "Malformed row: " + ex.getOriginalMessage());
+                }
+            }
+        }
+        return run.finish(row);
+    }
+
+    /**
+     * State of a single import request: the batch being filled, the in-flight permits and the report.
+     */
+    private class ImportRun {
+
+        private final Semaphore inFlight = new Semaphore(maxInFlightBatches);
+        private final AtomicLong imported = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final List<ImportRowErrorDto> errors = new ArrayList<>();
+        private List<TestCase> batch = new ArrayList<>(batchSize);
+        private List<Long> batchRows = new ArrayList<>(batchSize);
+        private boolean errorsTruncated;
+
+        void accept(long row, TestCaseRequestDto dto) {
+            Set<ConstraintViolation<TestCaseRequestDto>> violations = validator.validate(dto);
+            if (!violations.isEmpty()) {
+                reject(row, violations.iterator().next().getMessage());
+                return;
+            }
+            TestCase testCase = mapper.toEntity(dto);
+            testCase.setId(new ObjectId().toHexString());
+            batch.add(testCase);
+            batchRows.add(row);
+            if (batch.size() == batchSize) {
+                submit();
+            }
+        }
+
+        void reject(long row, String message) {
+            failed.incrementAndGet();
+            synchronized (errors) {
+                if (errors.size() < maxReportedErrors) {
+                    errors.add(new ImportRowErrorDto(row, message));
+                } else {
+                    errorsTruncated = true;
+                }
+            }
+        }
+
+        ImportReportDto finish(long rows) {
+            if (!batch.isEmpty()) {
+                submit();
+            }
+            // Taking every permit waits for the outstanding batches to complete
+            inFlight.acquireUninterruptibly(maxInFlightBatches);
+            ImportReportDto report = new ImportReportDto();
+            report.setRows(rows);
+            report.setImported(imported.get());
+            report.setFailed(failed.get());
+            synchronized (errors) {
+                errors.sort((a, b) -> Long.compare(a.getRow(), b.getRow()));
+                report.setErrors(errors);
+                report.setErrorsTruncated(errorsTruncated);
+            }
+            log.debug("Imported {} of {} rows", report.getImported(), rows);
+            return report;
+        }
+
+        private void submit() {
+            List<TestCase> testCases = batch;
+            List<Long> rows = batchRows;
+            batch = new ArrayList<>(batchSize);
+            batchRows = new ArrayList<>(batchSize);
+            inFlight.acquireUninterruptibly();
+            try {
+                executor.execute(() -> {
+                    try {
+                        insert(testCases, rows);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            } catch (RuntimeException ex) {
+                inFlight.release();
+                throw ex;
+            }
+        }
+
+        private void insert(List<TestCase> testCases, List<Long> rows) {
+            // Stamped when the batch is written, so the change feed's settle window covers one batch and not the import
+            LocalDateTime now = LocalDateTime.now();
+            testCases.forEach(testCase -> {
+                testCase.setCreatedAt(now);
+                testCase.setUpdatedAt(now);
+            });
+            Map<Integer, String> insertErrors;
+            try {
+                insertErrors = repository.bulkInsert(testCases);
+            } catch (RuntimeException ex) {
+                log.error("Import batch of {} rows failed", testCases.size(), ex);
+                rows.forEach(row -> reject(row, ex.getMessage()));
+                return;
+            }
+            for (int i = 0; i < testCases.size(); i++) {
+                if (insertErrors.containsKey(i)) {
+                    reject(rows.get(i), insertErrors.get(i));
+                } else {
+                    TestCase testCase = testCases.get(i);
+                    counts.increment(testCase.getStatus(), testCase.getPriority());
+                    pageCache.invalidate(testCase.getStatus(), testCase.getPriority());
+                    titleIndex.put(testCase.getId(), testCase.getTitle());
+                    imported.incrementAndGet();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.TestCaseManagementSystem.services;
+
+import com.example.TestCaseManagementSystem.apiresponses.PreSerialized;
+import com.example.TestCaseManagementSystem.dtos.CacheStatsDto;
+import com.example.TestCaseManagementSystem.dtos.TestCaseDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Encoded JSON of test cases, keyed by id, version and updatedAt, so that JSON responses splice the cached bytes
+ * instead of serializing the DTO again. A write changes the key, so entries are never stale and nothing is
+ * invalidated; superseded versions are evicted like cold ids. Caffeine bounds it to
+ * {@code testcases.json-cache.maximum-size} entries.
+ */
+@Component
+public class TestCaseJsonCache {
+
+    private final Cache<Key, byte[]> cache;
+    private final ObjectWriter writer;
+    private final long maximumSize;
+
+    public TestCaseJsonCache(ObjectMapper objectMapper,
+                             @Value("${testcases.json-cache.maximum-size:10000}") long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        this.writer = objectMapper.writerFor(TestCaseDto.class);
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Wraps a test case for a response body; the JSON is looked up, or encoded and cached, only when a JSON response
+     * is written. Test cases without a version, such as pending write-behind updates, are serialized every time.
+     */
+    public PreSerialized<TestCaseDto> wrap(TestCaseDto testCase) {
+        return new PreSerialized<>(testCase, () -> json(testCase));
+    }
+
+    public CacheStatsDto stats() {
+        CacheStats stats = cache.stats();
+        return new CacheStatsDto(stats.hitCount(), stats.missCount(), stats.hitRate(), stats.evictionCount(),
+                cache.estimatedSize(), maximumSize);
+    }
+
+    private byte[] json(TestCaseDto testCase) {
+        if (testCase.getVersion() == null) {
+            return null;
+        }
+        return cache.get(new Key(testCase.getId(), testCase.getVersion(), testCase.getUpdatedAt()), key -> {
+            try {
+                return writer.writeValueAsBytes(testCase);
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Could not serialize test case " + key.id(), e);
+            }
+        });
+    }
+
+    private record Key(String id, long version, LocalDateTime updatedAt) {
+    }
+}
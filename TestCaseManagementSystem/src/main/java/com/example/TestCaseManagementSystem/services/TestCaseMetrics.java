@@ -0,0 +1,52 @@
+package com.example.TestCaseManagementSystem.services;
+
+import com.example.TestCaseManagementSystem.enums.TestPriority;
+import com.example.TestCaseManagementSystem.enums.TestStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Service-level timers, published as percentile histograms so p99 can be aggregated across instances:
+ * {@code testcases.query} times the Mongo query behind a page per filter combination, and
+ * {@code testcases.mapping} times entity-to-DTO mapping per result shape. Together with the Mongo driver's
+ * {@code mongodb.driver.commands}, {@code http.serialization} and {@code http.server.requests} they split a
+ * request's latency into query, mapping and JSON time.
+ */
+@Component
+public class TestCaseMetrics {
+
+    private final MeterRegistry registry;
+    private final Map<String, Timer> queryTimers = new ConcurrentHashMap<>();
+    private final Map<String, Timer> mappingTimers = new ConcurrentHashMap<>();
+
+    public TestCaseMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    public <T> T timeQuery(TestStatus status, TestPriority priority, Supplier<T> query) {
+        String filter = status != null && priority != null ? "status_priority"
+                : status != null ? "status"
+                : priority != null ? "priority"
+                : "none";
+        return queryTimers.computeIfAbsent(filter, tag -> Timer.builder("testcases.query")
+                        .description("Mongo query time of a page of test cases")
+                        .tag("filter", tag)
+                        .publishPercentileHistogram()
+                        .register(registry))
+                .record(query);
+    }
+
+    public <T> T timeMapping(String target, Supplier<T> mapping) {
+        return mappingTimers.computeIfAbsent(target, tag -> Timer.builder("testcases.mapping")
+                        .description("Time spent mapping test case entities to DTOs")
+                        .tag("target", tag)
+                        .publishPercentileHistogram()
+                        .register(registry))
+                .record(mapping);
+    }
+}
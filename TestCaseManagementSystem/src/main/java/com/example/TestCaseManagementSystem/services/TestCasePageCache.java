@@ -0,0 +1,99 @@
+package com.example.TestCaseManagementSystem.services;
+
+import com.example.TestCaseManagementSystem.dtos.CacheStatsDto;
+import com.example.TestCaseManagementSystem.dtos.TestCaseDto;
+import com.example.TestCaseManagementSystem.enums.TestPriority;
+import com.example.TestCaseManagementSystem.enums.TestStatus;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * Cache of list pages keyed by filter, page, size and sort. Every status x priority cell (plus one slot each for
+ * documents without a status or priority) has a generation counter that writers bump after changing a document in
+ * that cell. A page key carries the sum of the generations of the cells its filter covers, so a write only makes
+ * the pages that could contain the document unreachable; those entries then age out under the size bound.
+ * Generations only grow, which is why a changed sum always means a changed cell.
+ */
+@Component
+public class TestCasePageCache {
+
+    private static final int STATUS_SLOTS = TestStatus.values().length + 1;
+    private static final int PRIORITY_SLOTS = TestPriority.values().length + 1;
+
+    private final AtomicLongArray generations = new AtomicLongArray(STATUS_SLOTS * PRIORITY_SLOTS);
+    private final Cache<PageKey, Page<TestCaseDto>> cache;
+    private final long maximumSize;
+
+    public TestCasePageCache(@Value("${testcases.page-cache.maximum-size:1000}") long maximumSize,
+                             @Value("${testcases.page-cache.expire-after-write:PT1M}") Duration expireAfterWrite) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        this.maximumSize = maximumSize;
+    }
+
+    public Page<TestCaseDto> get(TestStatus status, TestPriority priority, Pageable pageable, Supplier<Page<TestCaseDto>> loader) {
+        // Read the generation before loading: a write landing during the load leaves the entry under a stale key
+        PageKey key = new PageKey(status, priority, pageable.getPageNumber(), pageable.getPageSize(),
+                pageable.getSort(), generation(status, priority));
+        return cache.get(key, k -> loader.get());
+    }
+
+    /**
+     * Marks every page that could hold a document in this cell as stale. Call after the write is acknowledged.
+     */
+    public void invalidate(TestStatus status, TestPriority priority) {
+        generations.incrementAndGet(statusSlot(status) * PRIORITY_SLOTS + prioritySlot(priority));
+    }
+
+    public void invalidate(TestStatus previousStatus, TestPriority previousPriority, TestStatus status, TestPriority priority) {
+        invalidate(previousStatus, previousPriority);
+        if (previousStatus != status || previousPriority != priority) {
+            invalidate(status, priority);
+        }
+    }
+
+    public CacheStatsDto stats() {
+        CacheStats stats = cache.stats();
+        return new CacheStatsDto(stats.hitCount(), stats.missCount(), stats.hitRate(), stats.evictionCount(),
+                cache.estimatedSize(), maximumSize);
+    }
+
+    private long generation(TestStatus status, TestPriority priority) {
+        long sum = 0;
+        for (int s = 0; s < STATUS_SLOTS; s++) {
+            if (status != null && s != statusSlot(status)) {
+                continue;
+            }
+            for (int p = 0; p < PRIORITY_SLOTS; p++) {
+                if (priority == null || p == prioritySlot(priority)) {
+                    sum += generations.get(s * PRIORITY_SLOTS + p);
+                }
+            }
+        }
+        return sum;
+    }
+
+    private static int statusSlot(TestStatus status) {
+        return status == null ? STATUS_SLOTS - 1 : status.ordinal();
+    }
+
+    private static int prioritySlot(TestPriority priority) {
+        return priority == null ? PRIORITY_SLOTS - 1 : priority.ordinal();
+    }
+
+    private record PageKey(TestStatus status, TestPriority priority, int page, int size, Sort sort, long generation) {
+    }
+}
@@ -1,84 +1,382 @@
 package com.example.TestCaseManagementSystem.services;
 
+import com.example.TestCaseManagementSystem.apiresponses.CursorPage;
+import com.example.TestCaseManagementSystem.dtos.CacheStatsDto;
+import com.example.TestCaseManagementSystem.dtos.TestCaseDateFilter;
 import com.example.TestCaseManagementSystem.dtos.TestCaseDto;
+import com.example.TestCaseManagementSystem.dtos.TestCaseFacets;
+import com.example.TestCaseManagementSystem.dtos.TestCaseFacetsDto;
+import com.example.TestCaseManagementSystem.dtos.TestCasePatchDto;
 import com.example.TestCaseManagementSystem.dtos.TestCaseRequestDto;
+import com.example.TestCaseManagementSystem.dtos.TestCaseStamp;
+import com.example.TestCaseManagementSystem.dtos.TestCaseStatsDto;
+import com.example.TestCaseManagementSystem.dtos.TitleSuggestionDto;
 import com.example.TestCaseManagementSystem.entities.TestCase;
+import com.example.TestCaseManagementSystem.enums.TestCaseField;
+import com.example.TestCaseManagementSystem.enums.TestCaseSortKey;
 import com.example.TestCaseManagementSystem.enums.TestPriority;
 import com.example.TestCaseManagementSystem.enums.TestStatus;
+import com.example.TestCaseManagementSystem.exceptions.BadRequestException;
+import com.example.TestCaseManagementSystem.exceptions.ConflictException;
 import com.example.TestCaseManagementSystem.exceptions.ResourceNotFoundException;
+import com.example.TestCaseManagementSystem.mappers.TestCaseMapper;
+import com.example.TestCaseManagementSystem.pagination.CursorToken;
 import com.example.TestCaseManagementSystem.repositories.TestCaseRepository;
-import lombok.RequiredArgsConstructor;
-
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class TestCaseService {
 
     private final TestCaseRepository repository;
-    private final ModelMapper modelMapper;
+    private final TestCaseMapper mapper;
+    private final TestCaseCounts counts;
+    private final TestCaseCache cache;
+    private final TestCasePageCache pageCache;
+    private final TestCaseTitleIndex titleIndex;
+    private final TestCaseWriteBehindBuffer writeBehind;
+    private final TestCaseMetrics metrics;
+    private final int maxUpdateAttempts;
+
+    public TestCaseService(TestCaseRepository repository, TestCaseMapper mapper, TestCaseCounts counts,
+                           TestCaseCache cache, TestCasePageCache pageCache, TestCaseTitleIndex titleIndex,
+                           TestCaseWriteBehindBuffer writeBehind, TestCaseMetrics metrics,
+                           @Value("${testcases.update.max-attempts:3}") int maxUpdateAttempts) {
+        this.repository = repository;
+        this.mapper = mapper;
+        this.counts = counts;
+        this.cache = cache;
+        this.pageCache = pageCache;
+        this.titleIndex = titleIndex;
+        this.writeBehind = writeBehind;
+        this.metrics = metrics;
+        this.maxUpdateAttempts = maxUpdateAttempts;
+    }
 
     public Page<TestCaseDto> getTestCases(TestStatus status, TestPriority priority, Pageable pageable) {
         log.info("Fetching test cases with status {} and priority {} for page {}", status, priority, pageable.getPageNumber());
-        Page<TestCase> cases;
+        return pageCache.get(status, priority, pageable, () -> {
+            Page<TestCase> cases = metrics.timeQuery(status, priority, () -> {
+                if (status != null && priority != null) {
+                    return repository.findByStatusAndPriority(status, priority, pageable);
+                } else if(status != null) {
+                    return repository.findByStatus(status, pageable);
+                } else if(priority != null) {
+                    return repository.findByPriority(priority, pageable);
+                } else {
+                    return repository.findAll(pageable);
+                }
+            });
+            log.debug("Retrieved {} test cases", cases.getTotalElements());
+            return metrics.timeMapping("page", () -> cases.map(mapper::toDto));
+        });
+    }
+
+    /**
+     * Like {@link #getTestCases(TestStatus, TestPriority, Pageable)}, additionally bounded by creation and
+     * modification time. Date-filtered pages bypass the page cache, whose entries are only invalidated per
+     * status and priority.
+     */
+    public Page<TestCaseDto> getTestCases(TestStatus status, TestPriority priority, TestCaseDateFilter dates, Pageable pageable) {
+        if (dates == null || dates.isEmpty()) {
+            return getTestCases(status, priority, pageable);
+        }
+        log.info("Fetching test cases with status {}, priority {} and dates {} for page {}", status, priority, dates, pageable.getPageNumber());
+        Page<TestCase> cases = repository.findFiltered(status, priority, dates, pageable);
+        log.debug("Retrieved {} test cases", cases.getTotalElements());
+        return cases.map(mapper::toDto);
+    }
+
+    /**
+     * Sparse counterpart of {@link #getTestCases}: the projection is pushed down to Mongo, so unselected fields
+     * are neither transferred, mapped nor serialized. Projected pages bypass the page cache, which holds full pages.
+     */
+    public Page<Map<String, Object>> getTestCaseFields(TestStatus status, TestPriority priority, TestCaseDateFilter dates, Set<TestCaseField> fields, Pageable pageable) {
+        log.info("Fetching fields {} of test cases with status {} and priority {} for page {}", fields, status, priority, pageable.getPageNumber());
+        Page<TestCase> cases = repository.findProjected(status, priority, dates, fieldNames(fields), pageable);
+        log.debug("Retrieved {} test cases", cases.getTotalElements());
+        return cases.map(testCase -> mapper.toFieldMap(mapper.toDto(testCase), fields));
+    }
+
+    public TestCaseFacetsDto getTestCaseFacets(TestStatus status, TestPriority priority, Pageable pageable) {
+        log.info("Fetching faceted test cases with status {} and priority {} for page {}", status, priority, pageable.getPageNumber());
+        TestCaseFacets facets = repository.findFaceted(status, priority, pageable);
+        log.debug("Retrieved {} test cases with facets", facets.getPage().getTotalElements());
+        return new TestCaseFacetsDto(facets.getPage().map(mapper::toDto), facets.getStatusCounts(), facets.getPriorityCounts());
+    }
+
+    public Slice<TestCaseDto> getTestCaseSlice(TestStatus status, TestPriority priority, Pageable pageable) {
+        log.info("Fetching test case slice with status {} and priority {} for page {}", status, priority, pageable.getPageNumber());
+        Slice<TestCase> cases;
         if (status != null && priority != null) {
-            cases = repository.findByStatusAndPriority(status, priority, pageable);
+            cases = repository.readByStatusAndPriority(status, priority, pageable);
         } else if(status != null) {
-            cases = repository.findByStatus(status, pageable);
+            cases = repository.readByStatus(status, pageable);
         } else if(priority != null) {
-            cases = repository.findByPriority(priority, pageable);
+            cases = repository.readByPriority(priority, pageable);
         } else {
-            cases = repository.findAll(pageable);
+            cases = repository.readAllBy(pageable);
         }
-        log.debug("Retrieved {} test cases", cases.getTotalElements());
-        return cases.map(testCase -> modelMapper.map(testCase, TestCaseDto.class));
+        log.debug("Retrieved {} test cases, has next slice: {}", cases.getNumberOfElements(), cases.hasNext());
+        Slice<TestCase> slice = cases;
+        return metrics.timeMapping("slice", () -> slice.map(mapper::toDto));
+    }
+
+    public long estimateTestCaseCount(TestStatus status, TestPriority priority) {
+        return counts.estimate(status, priority);
+    }
+
+    public TestCaseStatsDto getTestCaseStats() {
+        log.info("Fetching test case counts by status and priority");
+        return counts.snapshot();
+    }
+
+    public CursorPage<TestCaseDto> getTestCasesAfter(TestStatus status, TestPriority priority, TestCaseSortKey sortKey, String after, int size) {
+        log.info("Fetching test cases with status {} and priority {} after cursor {}", status, priority, after);
+        if (size < 1) {
+            throw new BadRequestException("Page size must be at least 1");
+        }
+        CursorToken cursor = after == null || after.isBlank() ? null : CursorToken.decode(after);
+        TestCaseSortKey key = cursor != null ? cursor.getSortKey() : sortKey;
+        if (key == TestCaseSortKey.SCORE) {
+            throw new BadRequestException("Ordering by SCORE is only available for search");
+        }
+        // Fetch one extra element to learn whether another window follows without a count query
+        List<TestCase> cases = repository.findAfter(status, priority, key, cursor, size + 1);
+        return toCursorPage(cases, key, size);
+    }
+
+    public CursorPage<TestCaseDto> searchTestCases(String text, TestStatus status, TestPriority priority, String after, int size) {
+        log.info("Searching test cases for '{}' with status {} and priority {} after cursor {}", text, status, priority, after);
+        if (text == null || text.isBlank()) {
+            throw new BadRequestException("Search text is required");
+        }
+        if (size < 1) {
+            throw new BadRequestException("Page size must be at least 1");
+        }
+        CursorToken cursor = after == null || after.isBlank() ? null : CursorToken.decode(after);
+        if (cursor != null && cursor.getSortKey() != TestCaseSortKey.SCORE) {
+            throw new BadRequestException("Invalid cursor");
+        }
+        List<TestCase> cases = repository.search(text, status, priority, cursor, size + 1);
+        return toCursorPage(cases, TestCaseSortKey.SCORE, size);
+    }
+
+    private CursorPage<TestCaseDto> toCursorPage(List<TestCase> cases, TestCaseSortKey key, int size) {
+        boolean hasNext = cases.size() > size;
+        List<TestCase> window = hasNext ? cases.subList(0, size) : cases;
+        String nextCursor = hasNext ? CursorToken.of(key, window.get(size - 1)).encode() : null;
+        log.debug("Retrieved {} test cases, has next window: {}", window.size(), hasNext);
+        List<TestCaseDto> content = metrics.timeMapping("cursorPage", () -> window.stream()
+                .map(mapper::toDto)
+                .toList());
+        return new CursorPage<>(content, size, nextCursor);
     }
 
     public TestCaseDto getTestCaseById(String id) {
         log.info("Fetching test case with id {}", id);
-        TestCase testCase = repository.findById(id)
+        TestCaseDto testCase = cache.get(id, key -> repository.findById(key)
+                .map(found -> metrics.timeMapping("testCase", () -> mapper.toDto(found)))
+                .orElse(null));
+        if (testCase == null) {
+            log.error("Test case not found with id {}", id);
+            throw new ResourceNotFoundException("Test case not found");
+        }
+        log.debug("Found test case with id {}", id);
+        return writeBehind.overlay(id, testCase);
+    }
+
+    /**
+     * Returns the selected fields of a test case, trimmed from the cached test case when present and otherwise
+     * loaded with a projection, which is not cached.
+     */
+    public Map<String, Object> getTestCaseFieldsById(String id, Set<TestCaseField> fields) {
+        log.info("Fetching fields {} of test case with id {}", fields, id);
+        TestCaseDto cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return mapper.toFieldMap(writeBehind.overlay(id, cached), fields);
+        }
+        return repository.findProjectedById(id, fieldNames(fields))
+                .map(testCase -> mapper.toFieldMap(writeBehind.overlay(id, mapper.toDto(testCase)), fields))
                 .orElseThrow(() -> {
                     log.error("Test case not found with id {}", id);
                     return new ResourceNotFoundException("Test case not found");
                 });
-        log.debug("Found test case with id {}", id);
-        return modelMapper.map(testCase, TestCaseDto.class);
+    }
+
+    /**
+     * Returns the validators of a test case without loading and mapping the whole document: from the cache when
+     * it holds the test case, otherwise from a projection of {@code updatedAt} and {@code version}.
+     */
+    public TestCaseStamp getTestCaseStamp(String id) {
+        TestCaseDto cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return TestCaseStamp.of(writeBehind.overlay(id, cached));
+        }
+        if (writeBehind.isPending(id)) {
+            return TestCaseStamp.of(getTestCaseById(id));
+        }
+        return repository.findStampById(id)
+                .map(testCase -> new TestCaseStamp(testCase.getId(), testCase.getUpdatedAt(), testCase.getVersion()))
+                .orElseThrow(() -> {
+                    log.error("Test case not found with id {}", id);
+                    return new ResourceNotFoundException("Test case not found");
+                });
+    }
+
+    public List<TitleSuggestionDto> suggestTitles(String query, int limit) {
+        log.info("Suggesting up to {} titles for '{}'", limit, query);
+        if (limit < 1 || limit > 100) {
+            throw new BadRequestException("Limit must be between 1 and 100");
+        }
+        return titleIndex.suggest(query, limit);
+    }
+
+    public Map<String, CacheStatsDto> getCacheStats() {
+        Map<String, CacheStatsDto> stats = new LinkedHashMap<>();
+        stats.put("testCases", cache.stats());
+        stats.put("pages", pageCache.stats());
+        return stats;
     }
 
     public TestCaseDto createTestCase(TestCaseRequestDto dto) {
         log.info("Creating new test case with title {}", dto.getTitle());
-        TestCase testCase = modelMapper.map(dto, TestCase.class);
+        TestCase testCase = mapper.toEntity(dto);
         testCase.setCreatedAt(LocalDateTime.now());
         testCase.setUpdatedAt(LocalDateTime.now());
         TestCase saved = repository.save(testCase);
+        counts.increment(saved.getStatus(), saved.getPriority());
+        pageCache.invalidate(saved.getStatus(), saved.getPriority());
+        titleIndex.put(saved.getId(), saved.getTitle());
         log.debug("Created test case with id {}", saved.getId());
-        return modelMapper.map(saved, TestCaseDto.class);
+        return mapper.toDto(saved);
+    }
+
+    public boolean isWriteBehindEnabled() {
+        return writeBehind.isEnabled();
     }
 
-    public TestCaseDto updateTestCase(String id, TestCaseRequestDto dto) {
+    /**
+     * Accepts a full update to be written by the write-behind buffer. Only an id that is neither pending nor cached
+     * costs a read, to reject unknown test cases; the write itself is coalesced with later updates of the same id.
+     */
+    public void deferTestCaseUpdate(String id, TestCaseRequestDto dto) {
+        log.info("Deferring update of test case with id {}", id);
+        if (!writeBehind.isPending(id) && cache.getIfPresent(id) == null && !repository.existsById(id)) {
+            log.error("Test case not found with id {}", id);
+            throw new ResourceNotFoundException("Test case not found");
+        }
+        writeBehind.enqueue(id, dto);
+        log.debug("Deferred update of test case with id {}", id);
+    }
+
+    /**
+     * Replaces the fields of a test case. Given an expected version (from If-Match) the write only applies to
+     * that version and fails with a conflict otherwise. Without one, an update that loses a race with another
+     * writer is re-applied to the fresh document, up to {@code testcases.update.max-attempts} times in total.
+     */
+    public TestCaseDto updateTestCase(String id, TestCaseRequestDto dto, Long expectedVersion) {
         log.info("Updating test case with id {}", id);
-        TestCase existing = repository.findById(id)
+        writeBehind.flush(id);
+        for (int attempt = 1; ; attempt++) {
+            TestCase existing = repository.findById(id)
+                    .orElseThrow(() -> {
+                        log.error("Test case not found with id {}", id);
+                        return new ResourceNotFoundException("Test case not found");
+                    });
+            if (expectedVersion != null && !expectedVersion.equals(existing.getVersion())) {
+                log.warn("Test case with id {} is at version {}, expected {}", id, existing.getVersion(), expectedVersion);
+                throw new ConflictException("Test case was modified concurrently");
+            }
+            TestStatus previousStatus = existing.getStatus();
+            TestPriority previousPriority = existing.getPriority();
+            mapper.updateEntity(dto, existing);
+            existing.setUpdatedAt(LocalDateTime.now());
+            TestCase updated;
+            try {
+                updated = repository.save(existing);
+            } catch (OptimisticLockingFailureException ex) {
+                if (expectedVersion != null || attempt >= maxUpdateAttempts) {
+                    log.warn("Giving up updating test case with id {} after {} concurrent writes", id, attempt);
+                    throw new ConflictException("Test case was modified concurrently");
+                }
+                log.debug("Retrying update of test case with id {} after a concurrent write", id);
+                continue;
+            }
+            cache.invalidate(id);
+            counts.move(previousStatus, previousPriority, updated.getStatus(), updated.getPriority());
+            pageCache.invalidate(previousStatus, previousPriority, updated.getStatus(), updated.getPriority());
+            titleIndex.put(id, updated.getTitle());
+            log.debug("Updated test case with id {} to version {}", updated.getId(), updated.getVersion());
+            return mapper.toDto(updated);
+        }
+    }
+
+    /**
+     * Sets the supplied fields in one atomic update, so patches of different fields never need a retry. Given an
+     * expected version (from If-Match) the update only matches that version and fails with a conflict otherwise.
+     */
+    public TestCaseDto patchTestCase(String id, TestCasePatchDto dto, Long expectedVersion) {
+        log.info("Patching test case with id {}", id);
+        Update update = mapper.toUpdate(dto);
+        if (update.getUpdateObject().isEmpty()) {
+            throw new BadRequestException("No fields to update");
+        }
+        writeBehind.flush(id);
+        LocalDateTime now = LocalDateTime.now();
+        update.set("updatedAt", now);
+        // One findAndModify round trip; the previous document plus the patch is exactly what was stored
+        TestCase testCase = repository.findAndModifyById(id, expectedVersion, update)
                 .orElseThrow(() -> {
+                    if (expectedVersion != null && repository.existsById(id)) {
+                        log.warn("Test case with id {} is no longer at version {}", id, expectedVersion);
+                        return new ConflictException("Test case was modified concurrently");
+                    }
                     log.error("Test case not found with id {}", id);
                     return new ResourceNotFoundException("Test case not found");
                 });
-        modelMapper.map(dto, existing);
-        existing.setUpdatedAt(LocalDateTime.now());
-        TestCase updated = repository.save(existing);
-        log.debug("Updated test case with id {}", updated.getId());
-        return modelMapper.map(updated, TestCaseDto.class);
+        TestStatus previousStatus = testCase.getStatus();
+        TestPriority previousPriority = testCase.getPriority();
+        mapper.patchEntity(dto, testCase);
+        testCase.setUpdatedAt(now);
+        testCase.setVersion(testCase.getVersion() == null ? 1L : testCase.getVersion() + 1);
+        cache.invalidate(id);
+        counts.move(previousStatus, previousPriority, testCase.getStatus(), testCase.getPriority());
+        pageCache.invalidate(previousStatus, previousPriority, testCase.getStatus(), testCase.getPriority());
+        if (dto.getTitle() != null) {
+            titleIndex.put(id, testCase.getTitle());
+        }
+        log.debug("Patched test case with id {}", id);
+        return mapper.toDto(testCase);
     }
 
     public void deleteTestCase(String id) {
         log.info("Deleting test case with id {}", id);
-        repository.deleteById(id);
+        writeBehind.discard(id);
+        repository.findAndRemoveById(id)
+                .ifPresent(deleted -> {
+                    counts.decrement(deleted.getStatus(), deleted.getPriority());
+                    pageCache.invalidate(deleted.getStatus(), deleted.getPriority());
+                });
+        cache.invalidate(id);
+        titleIndex.remove(id);
         log.debug("Deleted test case with id {}", id);
     }
+
+    private static List<String> fieldNames(Set<TestCaseField> fields) {
+        return fields.stream().map(TestCaseField::getField).toList();
+    }
 }
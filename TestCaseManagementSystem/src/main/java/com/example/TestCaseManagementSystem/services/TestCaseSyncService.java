@@ -0,0 +1,70 @@
+package com.example.TestCaseManagementSystem.services;
+
+import com.example.TestCaseManagementSystem.apiresponses.SyncPage;
+import com.example.TestCaseManagementSystem.dtos.TestCaseDto;
+import com.example.TestCaseManagementSystem.entities.TestCase;
+import com.example.TestCaseManagementSystem.enums.TestCaseSortKey;
+import com.example.TestCaseManagementSystem.exceptions.BadRequestException;
+import com.example.TestCaseManagementSystem.mappers.TestCaseMapper;
+import com.example.TestCaseManagementSystem.pagination.CursorToken;
+import com.example.TestCaseManagementSystem.repositories.TestCaseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Incremental change feed for mirrors: test cases ordered by (updatedAt, id), continued from a watermark cursor.
+ *
+ * <p>{@code updatedAt} is stamped before the write reaches Mongo, so a slow write can become visible with a
+ * timestamp older than documents already handed out. The feed therefore stops {@code testcases.sync.settle-window}
+ * short of the current time; a watermark never passes a write that may still be in flight. Multi-chunk writers
+ * stamp each chunk as they send it, so the window only has to cover a single chunk.
+ */
+@Service
+@Slf4j
+public class TestCaseSyncService {
+
+    private final TestCaseRepository repository;
+    private final TestCaseMapper mapper;
+    private final Duration settleWindow;
+
+    public TestCaseSyncService(TestCaseRepository repository, TestCaseMapper mapper,
+                               @Value("${testcases.sync.settle-window:PT5S}") Duration settleWindow) {
+        this.repository = repository;
+        this.mapper = mapper;
+        this.settleWindow = settleWindow;
+    }
+
+    /**
+     * Returns up to {@code size} test cases changed after the cursor, or after {@code since} when there is no
+     * cursor, or from the beginning when there is neither. The next cursor is the watermark to resume from; it
+     * stays unchanged when nothing new has settled.
+     */
+    public SyncPage<TestCaseDto> getChanges(LocalDateTime since, String after, int size) {
+        log.info("Fetching test cases changed since {} after cursor {}", since, after);
+        if (size < 1) {
+            throw new BadRequestException("Page size must be at least 1");
+        }
+        CursorToken cursor = after == null || after.isBlank() ? null : CursorToken.decode(after);
+        if (cursor != null && cursor.getSortKey() != TestCaseSortKey.UPDATED_AT) {
+            throw new BadRequestException("Invalid cursor");
+        }
+        LocalDateTime until = LocalDateTime.now().minus(settleWindow);
+        // Fetch one extra element to learn whether more changes have settled without a count query
+        List<TestCase> cases = repository.findChanged(since, cursor, until, size + 1);
+        boolean hasMore = cases.size() > size;
+        List<TestCase> window = hasMore ? cases.subList(0, size) : cases;
+        String nextCursor = window.isEmpty()
+                ? (cursor == null ? null : after)
+                : CursorToken.of(TestCaseSortKey.UPDATED_AT, window.get(window.size() - 1)).encode();
+        log.debug("Retrieved {} changed test cases, more settled changes: {}", window.size(), hasMore);
+        List<TestCaseDto> content = window.stream()
+                .map(mapper::toDto)
+                .toList();
+        return new SyncPage<>(content, size, nextCursor, hasMore);
+    }
+}
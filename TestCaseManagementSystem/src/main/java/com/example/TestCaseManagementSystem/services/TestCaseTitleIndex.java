@@ -0,0 +1,423 @@
+package com.example.TestCaseManagementSystem.services;
+
+import com.example.TestCaseManagementSystem.dtos.TitleSuggestionDto;
+import com.example.TestCaseManagementSystem.entities.TestCase;
+import com.example.TestCaseManagementSystem.repositories.TestCaseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * In-process word-prefix index over test case titles for typeahead. It is built from a streamed id/title scan once
+ * the application is ready, kept current by the write paths, and rebuilt every
+ * {@code testcases.typeahead.rebuild-interval} to pick up writes made by other replicas.
+ *
+ * <p>The trie and its postings live in primitive arrays: every indexed title occupies an int slot, postings are
+ * slot numbers, and ids and titles are looked up by slot. A changed or deleted title only frees its slot; the stale
+ * postings are skipped when read and dropped when the trie is compacted, once freed slots outnumber live ones.
+ */
+@Component
+@Slf4j
+public class TestCaseTitleIndex {
+
+    private final TestCaseRepository repository;
+    private final int batchSize;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Guarded by lock
+    private Trie trie = new Trie();
+    // Writes made while a rebuild scans Mongo, replayed onto the new trie; null when no rebuild is running
+    private List<PendingWrite> pending;
+
+    public TestCaseTitleIndex(TestCaseRepository repository,
+                              @Value("${testcases.typeahead.batch-size:1000}") int batchSize) {
+        this.repository = repository;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${testcases.typeahead.rebuild-interval:PT10M}",
+            initialDelayString = "${testcases.typeahead.rebuild-interval:PT10M}")
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            pending = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        Trie fresh = new Trie();
+        boolean scanned = false;
+        try (Stream<TestCase> titles = repository.streamTitles(batchSize)) {
+            Iterator<TestCase> iterator = titles.iterator();
+            while (iterator.hasNext()) {
+                TestCase testCase = iterator.next();
+                fresh.put(testCase.getId(), testCase.getTitle());
+            }
+            scanned = true;
+        } finally {
+            lock.writeLock().lock();
+            try {
+                // A failed scan keeps serving the current trie, which the writes have kept up to date
+                if (scanned) {
+                    for (PendingWrite write : pending) {
+                        fresh.put(write.id(), write.title());
+                    }
+                    trie = fresh;
+                }
+                pending = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        log.info("Indexed {} test case titles", fresh.live);
+    }
+
+    /**
+     * Indexes the current title of a test case, replacing any previous one.
+     */
+    public void put(String id, String title) {
+        Assert.notNull(id, "Test case id must not be null");
+        write(new PendingWrite(id, title));
+    }
+
+    public void remove(String id) {
+        Assert.notNull(id, "Test case id must not be null");
+        write(new PendingWrite(id, null));
+    }
+
+    /**
+     * Returns up to {@code limit} test cases whose title has a word starting with each word of the query, in
+     * lexicographic order of the matched word, shorter words first.
+     */
+    public List<TitleSuggestionDto> suggest(String query, int limit) {
+        String[] words = tokenize(query);
+        if (words.length == 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            return trie.suggest(words, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return trie.live;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void write(PendingWrite write) {
+        lock.writeLock().lock();
+        try {
+            trie.put(write.id(), write.title());
+            if (pending != null) {
+                pending.add(write);
+            }
+            if (trie.needsCompaction()) {
+                trie = trie.compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    static String[] tokenize(String text) {
+        if (text == null) {
+            return new String[0];
+        }
+        return Arrays.stream(text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(word -> !word.isEmpty())
+                .distinct()
+                .toArray(String[]::new);
+    }
+
+    private record PendingWrite(String id, String title) {
+    }
+
+    /**
+     * Not thread-safe; the enclosing index guards every access.
+     */
+    private static final class Trie {
+
+        private static final int NONE = -1;
+
+        // Nodes; 0 is the root. Children are chained through nextSibling in ascending label order
+        private char[] label = new char[64];
+        private int[] firstChild = filled(64);
+        private int[] nextSibling = filled(64);
+        private int[][] postings = new int[64][];
+        private int[] postingCounts = new int[64];
+        private int nodes = 1;
+
+        // Slots; a slot whose title is null has been freed
+        private String[] ids = new String[64];
+        private String[] titles = new String[64];
+        private int slots;
+        private int live;
+
+        // Open-addressing id -> slot table holding slot + 1, 0 for an empty bucket
+        private int[] table = new int[128];
+
+        void put(String id, String title) {
+            remove(id);
+            String[] words = tokenize(title);
+            if (words.length == 0) {
+                return;
+            }
+            int slot = allocateSlot(id, title);
+            for (String word : words) {
+                addPosting(insert(word), slot);
+            }
+        }
+
+        void remove(String id) {
+            int bucket = findBucket(id);
+            if (table[bucket] == 0) {
+                return;
+            }
+            int slot = table[bucket] - 1;
+            ids[slot] = null;
+            titles[slot] = null;
+            live--;
+            deleteBucket(bucket);
+        }
+
+        boolean needsCompaction() {
+            return slots - live > Math.max(live, 1024);
+        }
+
+        Trie compact() {
+            Trie compacted = new Trie();
+            for (int slot = 0; slot < slots; slot++) {
+                if (titles[slot] != null) {
+                    compacted.put(ids[slot], titles[slot]);
+                }
+            }
+            return compacted;
+        }
+
+        List<TitleSuggestionDto> suggest(String[] words, int limit) {
+            // Walk the longest word, which has the smallest subtree, and check the others against each title
+            String longest = words[0];
+            for (String word : words) {
+                if (word.length() > longest.length()) {
+                    longest = word;
+                }
+            }
+            int node = find(longest);
+            List<TitleSuggestionDto> results = new ArrayList<>(Math.min(limit, 16));
+            if (node == NONE) {
+                return results;
+            }
+            int[] seen = new int[limit];
+            int[] stack = new int[16];
+            int depth = 0;
+            stack[depth++] = node;
+            while (depth > 0 && results.size() < limit) {
+                int current = stack[--depth];
+                for (int i = 0; i < postingCounts[current] && results.size() < limit; i++) {
+                    int slot = postings[current][i];
+                    if (titles[slot] != null && !contains(seen, results.size(), slot) && matchesAll(titles[slot], words)) {
+                        seen[results.size()] = slot;
+                        results.add(new TitleSuggestionDto(ids[slot], titles[slot]));
+                    }
+                }
+                // Push children in reverse so the smallest label is visited first
+                int childCount = 0;
+                for (int child = firstChild[current]; child != NONE; child = nextSibling[child]) {
+                    childCount++;
+                }
+                if (depth + childCount > stack.length) {
+                    stack = Arrays.copyOf(stack, Math.max(stack.length * 2, depth + childCount));
+                }
+                int position = depth + childCount;
+                for (int child = firstChild[current]; child != NONE; child = nextSibling[child]) {
+                    stack[--position] = child;
+                }
+                depth += childCount;
+            }
+            return results;
+        }
+
+        private static boolean matchesAll(String title, String[] words) {
+            String[] titleWords = tokenize(title);
+            for (String word : words) {
+                boolean matched = false;
+                for (String titleWord : titleWords) {
+                    if (titleWord.startsWith(word)) {
+                        matched = true;
+                        break;
+                    }
+                }
+                if (!matched) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static boolean contains(int[] values, int count, int value) {
+            for (int i = 0; i < count; i++) {
+                if (values[i] == value) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private int find(String word) {
+            int node = 0;
+            for (int i = 0; i < word.length() && node != NONE; i++) {
+                node = child(node, word.charAt(i));
+            }
+            return node;
+        }
+
+        private int child(int node, char c) {
+            for (int child = firstChild[node]; child != NONE && label[child] <= c; child = nextSibling[child]) {
+                if (label[child] == c) {
+                    return child;
+                }
+            }
+            return NONE;
+        }
+
+        private int insert(String word) {
+            int node = 0;
+            for (int i = 0; i < word.length(); i++) {
+                char c = word.charAt(i);
+                int previous = NONE;
+                int child = firstChild[node];
+                while (child != NONE && label[child] < c) {
+                    previous = child;
+                    child = nextSibling[child];
+                }
+                if (child == NONE || label[child] != c) {
+                    int created = newNode(c);
+                    nextSibling[created] = child;
+                    if (previous == NONE) {
+                        firstChild[node] = created;
+                    } else {
+                        nextSibling[previous] = created;
+                    }
+                    child = created;
+                }
+                node = child;
+            }
+            return node;
+        }
+
+        private int newNode(char c) {
+            if (nodes == label.length) {
+                int capacity = nodes * 2;
+                label = Arrays.copyOf(label, capacity);
+                firstChild = grow(firstChild, capacity);
+                nextSibling = grow(nextSibling, capacity);
+                postings = Arrays.copyOf(postings, capacity);
+                postingCounts = Arrays.copyOf(postingCounts, capacity);
+            }
+            label[nodes] = c;
+            return nodes++;
+        }
+
+        private void addPosting(int node, int slot) {
+            int[] list = postings[node];
+            if (list == null) {
+                list = postings[node] = new int[2];
+            } else if (postingCounts[node] == list.length) {
+                list = postings[node] = Arrays.copyOf(list, list.length * 2);
+            }
+            list[postingCounts[node]++] = slot;
+        }
+
+        private int allocateSlot(String id, String title) {
+            if (slots == ids.length) {
+                ids = Arrays.copyOf(ids, slots * 2);
+                titles = Arrays.copyOf(titles, slots * 2);
+            }
+            int slot = slots++;
+            ids[slot] = id;
+            titles[slot] = title;
+            live++;
+            if (live * 2 > table.length) {
+                rehash(table.length * 2);
+            }
+            table[findBucket(id)] = slot + 1;
+            return slot;
+        }
+
+        private int findBucket(String id) {
+            int mask = table.length - 1;
+            int bucket = mix(id.hashCode()) & mask;
+            while (table[bucket] != 0 && !id.equals(ids[table[bucket] - 1])) {
+                bucket = (bucket + 1) & mask;
+            }
+            return bucket;
+        }
+
+        // Backward-shift deletion keeps linear probe chains intact without tombstones
+        private void deleteBucket(int bucket) {
+            int mask = table.length - 1;
+            int hole = bucket;
+            int next = (hole + 1) & mask;
+            while (table[next] != 0) {
+                int home = mix(ids[table[next] - 1].hashCode()) & mask;
+                if (((next - home) & mask) >= ((next - hole) & mask)) {
+                    table[hole] = table[next];
+                    hole = next;
+                }
+                next = (next + 1) & mask;
+            }
+            table[hole] = 0;
+        }
+
+        private void rehash(int capacity) {
+            int[] previous = table;
+            table = new int[capacity];
+            for (int entry : previous) {
+                if (entry != 0) {
+                    table[findBucket(ids[entry - 1])] = entry;
+                }
+            }
+        }
+
+        private static int mix(int hash) {
+            return hash ^ (hash >>> 16);
+        }
+
+        private static int[] filled(int capacity) {
+            int[] values = new int[capacity];
+            Arrays.fill(values, NONE);
+            return values;
+        }
+
+        private static int[] grow(int[] values, int capacity) {
+            int length = values.length;
+            values = Arrays.copyOf(values, capacity);
+            Arrays.fill(values, length, capacity, NONE);
+            return values;
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.example.TestCaseManagementSystem.services;
+
+import com.example.TestCaseManagementSystem.dtos.TestCaseDto;
+import com.example.TestCaseManagementSystem.dtos.TestCaseRequestDto;
+import com.example.TestCaseManagementSystem.entities.TestCase;
+import com.example.TestCaseManagementSystem.enums.TestPriority;
+import com.example.TestCaseManagementSystem.enums.TestStatus;
+import com.example.TestCaseManagementSystem.repositories.TestCaseRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.Pair;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Optional write-behind mode for unconditional full updates ({@code testcases.write-behind.enabled}). Updates are
+ * held per id, a newer update replacing the older one, and flushed every {@code testcases.write-behind.flush-interval}
+ * as one projected $in read and one unordered bulk $set, however often each test case changed in between.
+ *
+ * <p>At most {@code testcases.write-behind.max-pending} ids are held; an update for a new id beyond that flushes
+ * the buffer on the caller's thread first. Pending updates are flushed when the application shuts down, and are
+ * overlaid on reads of their test case until they are written, so a client always reads its own writes.
+ *
+ * <p>Every other write path flushes the pending updates of the ids it is about to write, or discards them when it
+ * deletes, so a buffered update never lands after, and overwrites, a newer direct write.
+ *
+ * <p>{@code updatedAt} is stamped when a flush writes the update, not when it was accepted, so a held or retried
+ * update still lands inside the change feed's settle window. The accept time is only shown by the overlay.
+ */
+@Component
+@Slf4j
+public class TestCaseWriteBehindBuffer {
+
+    private final TestCaseRepository repository;
+    private final TestCaseCounts counts;
+    private final TestCaseCache cache;
+    private final TestCasePageCache pageCache;
+    private final TestCaseTitleIndex titleIndex;
+    private final boolean enabled;
+    private final int maxPending;
+
+    private final Map<String, PendingUpdate> pending = new ConcurrentHashMap<>();
+    // Taken out of pending by a running flush but not yet written; still overlaid on reads
+    private final Map<String, PendingUpdate> inFlight = new ConcurrentHashMap<>();
+
+    public TestCaseWriteBehindBuffer(TestCaseRepository repository, TestCaseCounts counts, TestCaseCache cache,
+                                     TestCasePageCache pageCache, TestCaseTitleIndex titleIndex,
+                                     @Value("${testcases.write-behind.enabled:false}") boolean enabled,
+                                     @Value("${testcases.write-behind.max-pending:10000}") int maxPending) {
+        this.repository = repository;
+        this.counts = counts;
+        this.cache = cache;
+        this.pageCache = pageCache;
+        this.titleIndex = titleIndex;
+        this.enabled = enabled;
+        this.maxPending = maxPending;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isPending(String id) {
+        return pending.containsKey(id) || inFlight.containsKey(id);
+    }
+
+    public void enqueue(String id, TestCaseRequestDto dto) {
+        if (pending.size() >= maxPending && !pending.containsKey(id)) {
+            log.debug("Write-behind buffer full, flushing {} pending updates", pending.size());
+            flush();
+        }
+        PendingUpdate update = new PendingUpdate(dto.getTitle(), dto.getDescription(), dto.getStatus(), dto.getPriority(),
+                LocalDateTime.now());
+        pending.put(id, update);
+    }
+
+    /**
+     * Returns the test case as it will be once its pending update is written: the updated fields and time are
+     * applied to a copy, and the version is cleared because the stored version is about to change.
+     */
+    public TestCaseDto overlay(String id, TestCaseDto testCase) {
+        PendingUpdate update = pending.get(id);
+        if (update == null) {
+            update = inFlight.get(id);
+        }
+        if (update == null) {
+            return testCase;
+        }
+        TestCaseDto overlaid = new TestCaseDto();
+        overlaid.setId(id);
+        overlaid.setTitle(update.title());
+        overlaid.setDescription(update.description());
+        overlaid.setStatus(update.status());
+        overlaid.setPriority(update.priority());
+        overlaid.setCreatedAt(testCase.getCreatedAt());
+        overlaid.setUpdatedAt(update.acceptedAt());
+        return overlaid;
+    }
+
+    /**
+     * Drops the pending update of a test case that is being deleted.
+     */
+    public void discard(String id) {
+        discard(List.of(id));
+    }
+
+    /**
+     * Drops the pending updates of test cases that are being deleted. Waits for a running flush, so no update of
+     * the ids is left in flight either, and reads stop overlaying them at once.
+     */
+    public synchronized void discard(Collection<String> ids) {
+        for (String id : ids) {
+            pending.remove(id);
+            inFlight.remove(id);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${testcases.write-behind.flush-interval:PT1S}")
+    public void flush() {
+        if (!pending.isEmpty()) {
+            flushPending(List.copyOf(pending.keySet()));
+        }
+    }
+
+    /**
+     * Writes the pending update of one test case now, so that a direct write to it is not overwritten later.
+     */
+    public void flush(String id) {
+        flush(List.of(id));
+    }
+
+    /**
+     * Writes the pending updates of the given test cases now, before a bulk write to them. Returns at once when
+     * none of them is buffered.
+     */
+    public void flush(Collection<String> ids) {
+        if (ids.stream().anyMatch(this::isPending)) {
+            flushPending(ids);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+        log.info("Flushed pending test case updates on shutdown");
+    }
+
+    private synchronized void flushPending(Collection<String> ids) {
+        Map<String, PendingUpdate> batch = new LinkedHashMap<>();
+        for (String id : ids) {
+            PendingUpdate update = pending.get(id);
+            if (update != null) {
+                // In flight before it leaves pending, so reads never miss it; a newer update stays pending
+                inFlight.put(id, update);
+                pending.remove(id, update);
+                batch.put(id, update);
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            write(batch);
+        } catch (RuntimeException ex) {
+            // Keep the updates for the next flush unless a newer update for the id arrived meanwhile
+            batch.forEach(pending::putIfAbsent);
+            log.error("Failed to flush {} pending test case updates", batch.size(), ex);
+            throw ex;
+        } finally {
+            batch.forEach(inFlight::remove);
+        }
+    }
+
+    private void write(Map<String, PendingUpdate> batch) {
+        // The previous cells for the count matrix; ids deleted since their update was accepted are dropped
+        Map<String, TestCase> existing = repository.findStatusAndPriorityByIdIn(batch.keySet()).stream()
+                .collect(Collectors.toMap(TestCase::getId, Function.identity()));
+        LocalDateTime now = LocalDateTime.now();
+        List<Pair<String, Update>> updates = new ArrayList<>();
+        batch.forEach((id, update) -> {
+            if (existing.containsKey(id)) {
+                updates.add(Pair.of(id, new Update()
+                        .set("title", update.title())
+                        .set("description", update.description())
+                        .set("status", update.status())
+                        .set("priority", update.priority())
+                        .set("updatedAt", now)));
+            } else {
+                log.warn("Dropping pending update of deleted test case {}", id);
+            }
+        });
+        if (updates.isEmpty()) {
+            return;
+        }
+        Map<Integer, String> errors = repository.bulkUpdate(updates);
+        cache.invalidateAll(updates.stream().map(Pair::getFirst).toList());
+        for (int j = 0; j < updates.size(); j++) {
+            String id = updates.get(j).getFirst();
+            if (errors.containsKey(j)) {
+                log.error("Failed to write pending update of test case {}: {}", id, errors.get(j));
+                continue;
+            }
+            TestCase previous = existing.get(id);
+            PendingUpdate update = batch.get(id);
+            counts.move(previous.getStatus(), previous.getPriority(), update.status(), update.priority());
+            pageCache.invalidate(previous.getStatus(), previous.getPriority(), update.status(), update.priority());
+            titleIndex.put(id, update.title());
+        }
+        log.debug("Flushed {} pending test case updates", updates.size());
+    }
+
+    private record PendingUpdate(String title, String description, TestStatus status, TestPriority priority,
+                                 LocalDateTime acceptedAt) {
+    }
+}
@@ -0,0 +1,215 @@
+package com.example.TestCaseManagementSystem.services;
+
+import com.example.TestCaseManagementSystem.dtos.ExecutionIngestReportDto;
+import com.example.TestCaseManagementSystem.dtos.ImportRowErrorDto;
+import com.example.TestCaseManagementSystem.dtos.TestExecutionDto;
+import com.example.TestCaseManagementSystem.entities.TestCase;
+import com.example.TestCaseManagementSystem.entities.TestExecution;
+import com.example.TestCaseManagementSystem.exceptions.BadRequestException;
+import com.example.TestCaseManagementSystem.mappers.TestExecutionMapper;
+import com.example.TestCaseManagementSystem.repositories.TestCaseRepository;
+import com.example.TestCaseManagementSystem.repositories.TestExecutionRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.Pair;
+import org.springframework.stereotype.Service;
+import org.springframework.util.Assert;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Ingests CI execution results into the time-series history and keeps {@code TestCase.status} at the result with
+ * the latest {@code executedAt}, whatever order results arrive in. Results are written in chunks of
+ * {@code testcases.executions.batch-size}: per chunk one projected $in read resolves the test cases, one unordered
+ * bulk insert stores the results, and one unordered bulk update applies the latest result in the chunk of each test
+ * case that is newer than its stored {@code lastExecutedAt}. That update is conditional on {@code lastExecutedAt},
+ * so a backfilled or out-of-order result, in a later chunk or a later request, never overwrites a newer status. A
+ * newer result with an unchanged status only advances {@code lastExecutedAt}, without a new version.
+ */
+@Service
+@Slf4j
+public class TestExecutionService {
+
+    private final TestExecutionRepository executionRepository;
+    private final TestCaseRepository testCaseRepository;
+    private final TestExecutionMapper mapper;
+    private final TestCaseCounts counts;
+    private final TestCaseCache cache;
+    private final TestCasePageCache pageCache;
+    private final TestCaseWriteBehindBuffer writeBehind;
+    private final Validator validator;
+    private final int batchSize;
+    private final int maxReportedErrors;
+
+    public TestExecutionService(TestExecutionRepository executionRepository, TestCaseRepository testCaseRepository,
+                                TestExecutionMapper mapper, TestCaseCounts counts, TestCaseCache cache,
+                                TestCasePageCache pageCache, TestCaseWriteBehindBuffer writeBehind, Validator validator,
+                                @Value("${testcases.executions.batch-size:5000}") int batchSize,
+                                @Value("${testcases.executions.max-reported-errors:1000}") int maxReportedErrors) {
+        Assert.isTrue(batchSize > 0, "testcases.executions.batch-size must be at least 1");
+        this.executionRepository = executionRepository;
+        this.testCaseRepository = testCaseRepository;
+        this.mapper = mapper;
+        this.counts = counts;
+        this.cache = cache;
+        this.pageCache = pageCache;
+        this.writeBehind = writeBehind;
+        this.validator = validator;
+        this.batchSize = batchSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    public ExecutionIngestReportDto ingest(List<TestExecutionDto> dtos) {
+        log.info("Ingesting {} test executions", dtos.size());
+        Report report = new Report();
+        for (int from = 0; from < dtos.size(); from += batchSize) {
+            ingestChunk(dtos, from, Math.min(from + batchSize, dtos.size()), report);
+        }
+        log.debug("Stored {} of {} test executions and updated {} statuses", report.stored, dtos.size(), report.statusUpdates);
+        return report.toDto(dtos.size());
+    }
+
+    public List<TestExecutionDto> getExecutions(String testCaseId, int limit) {
+        log.info("Fetching the last {} executions of test case {}", limit, testCaseId);
+        if (limit < 1 || limit > 1000) {
+            throw new BadRequestException("Limit must be between 1 and 1000");
+        }
+        return executionRepository.findByTestCaseIdOrderByExecutedAtDesc(testCaseId, PageRequest.of(0, limit)).stream()
+                .map(mapper::toDto)
+                .toList();
+    }
+
+    private void ingestChunk(List<TestExecutionDto> dtos, int from, int to, Report report) {
+        // A fresh timestamp per chunk keeps updatedAt within the sync settle window of the actual write
+        LocalDateTime now = LocalDateTime.now();
+        List<Integer> valid = new ArrayList<>();
+        Set<String> ids = new HashSet<>();
+        for (int i = from; i < to; i++) {
+            String violation = firstViolation(dtos.get(i));
+            if (violation != null) {
+                report.reject(i, violation);
+            } else {
+                valid.add(i);
+                ids.add(dtos.get(i).getTestCaseId());
+            }
+        }
+        if (valid.isEmpty()) {
+            return;
+        }
+        // A buffered PUT flushed after this chunk would overwrite the status it sets
+        writeBehind.flush(ids);
+        Map<String, TestCase> existing = testCaseRepository.findStatusAndPriorityByIdIn(ids).stream()
+                .collect(Collectors.toMap(TestCase::getId, Function.identity()));
+        List<Integer> known = new ArrayList<>();
+        List<TestExecution> executions = new ArrayList<>();
+        for (int index : valid) {
+            TestExecutionDto dto = dtos.get(index);
+            if (!existing.containsKey(dto.getTestCaseId())) {
+                report.reject(index, "Test case not found");
+                continue;
+            }
+            TestExecution execution = mapper.toEntity(dto);
+            if (execution.getExecutedAt() == null) {
+                execution.setExecutedAt(now);
+            }
+            known.add(index);
+            executions.add(execution);
+        }
+        Map<Integer, String> errors = executions.isEmpty() ? Map.of() : executionRepository.bulkInsert(executions);
+
+        // Coalesce to the latest stored result per test case; on equal timestamps the later item wins
+        Map<String, TestExecution> latest = new LinkedHashMap<>();
+        for (int j = 0; j < executions.size(); j++) {
+            if (errors.containsKey(j)) {
+                report.reject(known.get(j), errors.get(j));
+                continue;
+            }
+            report.stored++;
+            TestExecution execution = executions.get(j);
+            latest.merge(execution.getTestCaseId(), execution,
+                    (current, candidate) -> candidate.getExecutedAt().isBefore(current.getExecutedAt()) ? current : candidate);
+        }
+        List<Pair<TestExecution, Update>> updates = new ArrayList<>();
+        for (TestExecution execution : latest.values()) {
+            TestCase stored = existing.get(execution.getTestCaseId());
+            if (stored.getLastExecutedAt() != null && !execution.getExecutedAt().isAfter(stored.getLastExecutedAt())) {
+                continue;
+            }
+            Update update = new Update().set("lastExecutedAt", execution.getExecutedAt());
+            if (execution.getStatus() != stored.getStatus()) {
+                update.set("status", execution.getStatus()).set("updatedAt", now).inc("version", 1);
+            }
+            updates.add(Pair.of(execution, update));
+        }
+        if (updates.isEmpty()) {
+            return;
+        }
+        Map<Integer, String> updateErrors = testCaseRepository.bulkUpdateIfExecutedBefore(updates);
+        List<String> changed = new ArrayList<>();
+        for (int j = 0; j < updates.size(); j++) {
+            TestExecution execution = updates.get(j).getFirst();
+            if (updateErrors.containsKey(j)) {
+                log.warn("Could not update the status of test case {}: {}", execution.getTestCaseId(), updateErrors.get(j));
+                continue;
+            }
+            TestCase previous = existing.get(execution.getTestCaseId());
+            if (execution.getStatus() == previous.getStatus()) {
+                continue;
+            }
+            // A concurrent ingest can still win the conditional update; the count drift is fixed by reconciliation
+            counts.move(previous.getStatus(), previous.getPriority(), execution.getStatus(), previous.getPriority());
+            pageCache.invalidate(previous.getStatus(), previous.getPriority(), execution.getStatus(), previous.getPriority());
+            changed.add(previous.getId());
+            report.statusUpdates++;
+        }
+        if (!changed.isEmpty()) {
+            cache.invalidateAll(changed);
+        }
+    }
+
+    private String firstViolation(TestExecutionDto dto) {
+        Set<ConstraintViolation<TestExecutionDto>> violations = validator.validate(dto);
+        return violations.isEmpty() ? null : violations.iterator().next().getMessage();
+    }
+
+    private class Report {
+        private final List<ImportRowErrorDto> errors = new ArrayList<>();
+        private long stored;
+        private long rejected;
+        private long statusUpdates;
+        private boolean errorsTruncated;
+
+        void reject(int index, String message) {
+            rejected++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new ImportRowErrorDto(index, message));
+            } else {
+                errorsTruncated = true;
+            }
+        }
+
+        ExecutionIngestReportDto toDto(int received) {
+            ExecutionIngestReportDto dto = new ExecutionIngestReportDto();
+            dto.setReceived(received);
+            dto.setStored(stored);
+            dto.setRejected(rejected);
+            dto.setStatusUpdates(statusUpdates);
+            errors.sort((a, b) -> Long.compare(a.getRow(), b.getRow()));
+            dto.setErrors(errors);
+            dto.setErrorsTruncated(errorsTruncated);
+            return dto;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.TestCaseManagementSystem.controllers;
+
+import com.example.TestCaseManagementSystem.dtos.TestCaseRequestDto;
+import com.example.TestCaseManagementSystem.enums.TestPriority;
+import com.example.TestCaseManagementSystem.enums.TestStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+@SpringBootTest
+@AutoConfigureWebTestClient
+@ActiveProfiles("reactive")
+class ReactiveTestCaseControllerIntegrationTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    // Test GET /api/testcases with status filter
+    @Test
+    void testGetTestCases_FilterByStatus() {
+        webTestClient.get().uri("/api/testcases?status=PENDING&page=0&size=10")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.respMsg").isEqualTo("Test cases retrieved successfully")
+                .jsonPath("$.respBody.content").isArray();
+    }
+
+    // Test POST /api/testcases/create, then GET and DELETE the created test case
+    @Test
+    void testCreateGetAndDeleteTestCase() {
+        TestCaseRequestDto requestDto = new TestCaseRequestDto();
+        requestDto.setTitle("Reactive Test Case");
+        requestDto.setStatus(TestStatus.PENDING);
+        requestDto.setPriority(TestPriority.LOW);
+
+        AtomicReference<String> id = new AtomicReference<>();
+        webTestClient.post().uri("/api/testcases/create")
+                .bodyValue(requestDto)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.respMsg").isEqualTo("Test case created successfully")
+                .jsonPath("$.respBody.id").value(String.class, id::set);
+
+        webTestClient.get().uri("/api/testcases/{id}", id.get())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.respBody.title").isEqualTo("Reactive Test Case");
+
+        webTestClient.delete().uri("/api/testcases/{id}", id.get())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.respMsg").isEqualTo("Test case deleted successfully");
+    }
+
+    // Test PUT /api/testcases/{id} with If-Match: a stale ETag is a conflict, the current one updates and returns the next
+    @Test
+    void testUpdateTestCase_IfMatch() {
+        TestCaseRequestDto requestDto = new TestCaseRequestDto();
+        requestDto.setTitle("Reactive If-Match Test Case");
+        requestDto.setStatus(TestStatus.PENDING);
+        requestDto.setPriority(TestPriority.LOW);
+
+        AtomicReference<String> id = new AtomicReference<>();
+        AtomicReference<Integer> version = new AtomicReference<>();
+        webTestClient.post().uri("/api/testcases/create")
+                .bodyValue(requestDto)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.respBody.id").value(String.class, id::set)
+                .jsonPath("$.respBody.version").value(Integer.class, version::set);
+
+        requestDto.setStatus(TestStatus.PASSED);
+        webTestClient.put().uri("/api/testcases/{id}", id.get())
+                .header("If-Match", "\"" + id.get() + "-" + (version.get() + 1) + "\"")
+                .bodyValue(requestDto)
+                .exchange()
+                .expectStatus().isEqualTo(409);
+
+        webTestClient.put().uri("/api/testcases/{id}", id.get())
+                .header("If-Match", "\"" + id.get() + "-" + version.get() + "\"")
+                .bodyValue(requestDto)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("ETag", "\"" + id.get() + "-" + (version.get() + 1) + "\"")
+                .expectBody()
+                .jsonPath("$.respBody.status").isEqualTo("PASSED");
+
+        webTestClient.delete().uri("/api/testcases/{id}", id.get())
+                .exchange()
+                .expectStatus().isOk();
+    }
+
+    // Test GET /api/testcases/{id} for a missing test case
+    @Test
+    void testGetTestCase_NotFound() {
+        webTestClient.get().uri("/api/testcases/does-not-exist")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    // Test POST /api/testcases/create without a title
+    @Test
+    void testCreateTestCase_Invalid() {
+        webTestClient.post().uri("/api/testcases/create")
+                .bodyValue(new TestCaseRequestDto())
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Invalid input data");
+    }
+}
@@ -1,26 +1,47 @@
 package com.example.TestCaseManagementSystem.controllers;
 
 import com.example.TestCaseManagementSystem.dtos.TestCaseRequestDto;
+import com.example.TestCaseManagementSystem.enums.ExportFormat;
 import com.example.TestCaseManagementSystem.enums.TestPriority;
 import com.example.TestCaseManagementSystem.enums.TestStatus;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.jayway.jsonpath.JsonPath;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.time.Duration;
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
 @AutoConfigureMockMvc
+@AutoConfigureObservability
 class TestCaseControllerIntegrationTest {
 
     @Autowired
@@ -61,6 +82,181 @@ class TestCaseControllerIntegrationTest {
                 .andExpect(jsonPath("$.respMsg", is("Test cases retrieved successfully")));
     }
 
+    // Test GET /api/testcases returns the lean page envelope, without the PageImpl internals
+    @Test
+    void testGetTestCases_LeanEnvelope() throws Exception {
+        mockMvc.perform(get("/api/testcases")
+                        .param("page", "0")
+                        .param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.respBody.content").isArray())
+                .andExpect(jsonPath("$.respBody.number", is(0)))
+                .andExpect(jsonPath("$.respBody.size", is(5)))
+                .andExpect(jsonPath("$.respBody.totalElements").isNumber())
+                .andExpect(jsonPath("$.respBody.pageable").doesNotExist())
+                .andExpect(jsonPath("$.respBody.sort").doesNotExist());
+    }
+
+    // Test GET /api/testcases and /api/testcases/{id} negotiate Smile and CBOR through Accept
+    @Test
+    void testGetTestCases_BinaryFormats() throws Exception {
+        byte[] smile = mockMvc.perform(get("/api/testcases")
+                        .accept(ExportFormat.SMILE_VALUE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(ExportFormat.SMILE_VALUE))
+                .andReturn().getResponse().getContentAsByteArray();
+        JsonNode list = objectMapper.copyWith(new SmileFactory()).readTree(smile);
+        assertEquals("Test cases retrieved successfully", list.get("respMsg").asText());
+        assertTrue(list.get("respBody").get("content").isArray());
+
+        TestCaseRequestDto dto = new TestCaseRequestDto();
+        dto.setTitle("Binary Test Case");
+        dto.setStatus(TestStatus.PENDING);
+        dto.setPriority(TestPriority.LOW);
+        String id = JsonPath.read(mockMvc.perform(post("/api/testcases/create")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andReturn().getResponse().getContentAsString(), "$.respBody.id");
+        byte[] cbor = mockMvc.perform(get("/api/testcases/{id}", id)
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + id + "-0-cbor\""))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                .andReturn().getResponse().getContentAsByteArray();
+        JsonNode single = objectMapper.copyWith(new CBORFactory()).readTree(cbor);
+        assertEquals("Binary Test Case", single.get("respBody").get("title").asText());
+    }
+
+    // Test GET /api/testcases with date ranges: nothing is created in the future
+    @Test
+    void testGetTestCases_FilterByDates() throws Exception {
+        mockMvc.perform(get("/api/testcases")
+                        .param("createdFrom", "2999-01-01T00:00:00")
+                        .param("updatedTo", "3000-01-01T00:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalCount", is(0)));
+        mockMvc.perform(get("/api/testcases").param("updatedFrom", "yesterday"))
+                .andExpect(status().isBadRequest());
+    }
+
+    // Test GET /api/testcases/changes: changes older than the settle window come with a resumable watermark
+    @Test
+    void testGetTestCaseChanges() throws Exception {
+        mockMvc.perform(get("/api/testcases/changes").param("since", "2000-01-01T00:00:00").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.respMsg", is("Test case changes retrieved successfully")))
+                .andExpect(jsonPath("$.respBody.hasMore").isBoolean());
+        mockMvc.perform(get("/api/testcases/changes").param("after", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    // Test GET /api/testcases in slice mode (no count query)
+    @Test
+    void testGetTestCases_SliceWithoutCount() throws Exception {
+        mockMvc.perform(get("/api/testcases")
+                        .param("count", "false")
+                        .param("page", "0")
+                        .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.respMsg", is("Test cases retrieved successfully")));
+    }
+
+    // Test GET /api/testcases in slice mode combined with the cursor and projection modes
+    @Test
+    void testGetTestCases_SliceCombinedModes() throws Exception {
+        mockMvc.perform(get("/api/testcases")
+                        .param("count", "false")
+                        .param("after", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/testcases")
+                        .param("count", "false")
+                        .param("fields", "title"))
+                .andExpect(status().isBadRequest());
+    }
+
+    // Test GET /api/testcases/stats
+    @Test
+    void testGetTestCaseStats() throws Exception {
+        mockMvc.perform(get("/api/testcases/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.respMsg", is("Test case stats retrieved successfully")));
+    }
+
+    // Test GET /api/testcases/cache/stats
+    @Test
+    void testGetCacheStats() throws Exception {
+        mockMvc.perform(get("/api/testcases/cache/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.respMsg", is("Test case cache stats retrieved successfully")))
+                .andExpect(jsonPath("$.respBody.testCases.maximumSize", is(10000)))
+                .andExpect(jsonPath("$.respBody.pages.maximumSize", is(1000)))
+                .andExpect(jsonPath("$.respBody.json.maximumSize", is(10000)));
+    }
+
+    // Test GET /api/testcases/{id} serves repeated reads from the encoded JSON cache
+    @Test
+    void testGetTestCase_SplicesCachedJson() throws Exception {
+        TestCaseRequestDto dto = new TestCaseRequestDto();
+        dto.setTitle("Cached Json Test Case");
+        dto.setStatus(TestStatus.PENDING);
+        dto.setPriority(TestPriority.LOW);
+        String id = JsonPath.read(mockMvc.perform(post("/api/testcases/create")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andReturn().getResponse().getContentAsString(), "$.respBody.id");
+        int hits = JsonPath.read(mockMvc.perform(get("/api/testcases/cache/stats"))
+                .andReturn().getResponse().getContentAsString(), "$.respBody.json.hitCount");
+
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/api/testcases/{id}", id))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.respBody.id", is(id)))
+                    .andExpect(jsonPath("$.respBody.title", is("Cached Json Test Case")))
+                    .andExpect(jsonPath("$.respBody.version", is(0)));
+        }
+        mockMvc.perform(get("/api/testcases/cache/stats"))
+                .andExpect(jsonPath("$.respBody.json.hitCount", is(hits + 1)));
+    }
+
+    // Test GET /api/testcases/export (streamed asynchronously as NDJSON, under the export's own timeout)
+    @Test
+    void testExportTestCases() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/testcases/export")
+                        .param("status", "PENDING"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertEquals(Duration.ofMinutes(30).toMillis(), result.getRequest().getAsyncContext().getTimeout());
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON));
+    }
+
+    // Test GET /api/testcases/export streams a CBOR sequence when asked for one
+    @Test
+    void testExportTestCases_Cbor() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/testcases/export")
+                        .accept(ExportFormat.CBOR_VALUE))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(ExportFormat.CBOR_VALUE));
+    }
+
+    // Test POST /api/testcases/import (NDJSON body, per-row report)
+    @Test
+    void testImportTestCases() throws Exception {
+        String body = "{\"title\":\"Imported Test\",\"status\":\"PENDING\",\"priority\":\"LOW\"}\n{\"title\":\"\"}\n";
+        mockMvc.perform(post("/api/testcases/import")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.respMsg", is("Import processed")))
+                .andExpect(jsonPath("$.respBody.imported", is(1)))
+                .andExpect(jsonPath("$.respBody.errors[0].row", is(2)));
+    }
+
     // Test GET /api/testcases/{id}
     // Note: For integration tests, you must ensure that a test case with the given ID exists.
     // You might need to preload the test data before running this test. Or else it will give 404 instead of 200.
@@ -87,6 +283,242 @@ class TestCaseControllerIntegrationTest {
                 .andExpect(jsonPath("$.respMsg", is("Test case created successfully")));
     }
 
+    // Test conditional GET /api/testcases/{id}: ETag and Last-Modified are honoured with a 304
+    @Test
+    void testGetTestCase_NotModified() throws Exception {
+        TestCaseRequestDto requestDto = new TestCaseRequestDto();
+        requestDto.setTitle("Conditional Test Case");
+        requestDto.setStatus(TestStatus.PENDING);
+        requestDto.setPriority(TestPriority.LOW);
+        MvcResult created = mockMvc.perform(post("/api/testcases/create")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDto)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        String id = JsonPath.read(created.getResponse().getContentAsString(), "$.respBody.id");
+
+        MvcResult result = mockMvc.perform(get("/api/testcases/" + id))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn();
+        String etag = result.getResponse().getHeader(HttpHeaders.ETAG);
+        String lastModified = result.getResponse().getHeader(HttpHeaders.LAST_MODIFIED);
+
+        mockMvc.perform(get("/api/testcases/" + id).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        mockMvc.perform(get("/api/testcases/" + id).header(HttpHeaders.IF_MODIFIED_SINCE, lastModified))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/testcases/" + id).header(HttpHeaders.IF_NONE_MATCH, "\"stale\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+    }
+
+    // Test GET /api/testcases?fields=: only the selected fields (and the id) are returned
+    @Test
+    void testGetTestCases_SparseFields() throws Exception {
+        mockMvc.perform(get("/api/testcases").param("fields", "title,status").param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.respBody.content[0].id").exists())
+                .andExpect(jsonPath("$.respBody.content[0].title").exists())
+                .andExpect(jsonPath("$.respBody.content[0].description").doesNotExist())
+                .andExpect(jsonPath("$.respBody.content[0].createdAt").doesNotExist());
+        mockMvc.perform(get("/api/testcases").param("fields", "title,secret"))
+                .andExpect(status().isBadRequest());
+
+        String id = JsonPath.read(mockMvc.perform(get("/api/testcases").param("fields", "id"))
+                .andReturn().getResponse().getContentAsString(), "$.respBody.content[0].id");
+        mockMvc.perform(get("/api/testcases/" + id).param("fields", "priority"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.respBody.id", is(id)))
+                .andExpect(jsonPath("$.respBody.priority").exists())
+                .andExpect(jsonPath("$.respBody.title").doesNotExist());
+    }
+
+    // Test GET /api/testcases/typeahead: a created test case is suggested immediately
+    @Test
+    void testSuggestTitles() throws Exception {
+        TestCaseRequestDto requestDto = new TestCaseRequestDto();
+        requestDto.setTitle("Zebra crossing typeahead");
+        mockMvc.perform(post("/api/testcases/create")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDto)))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/testcases/typeahead").param("q", "zebra type"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.respBody[0].title", is("Zebra crossing typeahead")))
+                .andExpect(jsonPath("$.respBody[0].id").exists());
+        mockMvc.perform(get("/api/testcases/typeahead").param("q", "zebra").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    // Test GET /api/testcases/facets: the page and the counts for every status and priority
+    @Test
+    void testGetTestCaseFacets() throws Exception {
+        TestCaseRequestDto requestDto = new TestCaseRequestDto();
+        requestDto.setTitle("Faceted failure");
+        requestDto.setStatus(TestStatus.FAILED);
+        mockMvc.perform(post("/api/testcases/create")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDto)))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/testcases/facets").param("status", "FAILED").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.respBody.page.content.length()", is(1)))
+                .andExpect(jsonPath("$.respBody.page.content[0].status", is("FAILED")))
+                .andExpect(jsonPath("$.respBody.statusCounts.PASSED", is(0)))
+                .andExpect(jsonPath("$.respBody.statusCounts.PENDING", is(0)))
+                .andExpect(jsonPath("$.respBody.statusCounts.FAILED").isNumber())
+                .andExpect(jsonPath("$.respBody.priorityCounts.LOW").isNumber());
+        mockMvc.perform(get("/api/testcases/facets").param("priority", "URGENT"))
+                .andExpect(status().isBadRequest());
+    }
+
+    // Test POST /api/testcases/executions: results are stored, the latest one sets the status, unknown ids are rejected
+    @Test
+    void testIngestExecutions() throws Exception {
+        TestCaseRequestDto requestDto = new TestCaseRequestDto();
+        requestDto.setTitle("Executed test");
+        requestDto.setStatus(TestStatus.PENDING);
+        String id = objectMapper.readTree(mockMvc.perform(post("/api/testcases/create")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDto)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString()).path("respBody").path("id").asText();
+
+        String body = "[" +
+                "{\"testCaseId\":\"" + id + "\",\"status\":\"PASSED\",\"durationMillis\":120,\"buildId\":\"b1\",\"executedAt\":\"2025-03-24T21:00:00\"}," +
+                "{\"testCaseId\":\"" + id + "\",\"status\":\"FAILED\",\"durationMillis\":95,\"buildId\":\"b2\",\"executedAt\":\"2025-03-24T22:00:00\"}," +
+                "{\"testCaseId\":\"missing\",\"status\":\"PASSED\",\"durationMillis\":1}]";
+        mockMvc.perform(post("/api/testcases/executions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.respBody.stored", is(2)))
+                .andExpect(jsonPath("$.respBody.rejected", is(1)))
+                .andExpect(jsonPath("$.respBody.statusUpdates", is(1)));
+
+        mockMvc.perform(get("/api/testcases/" + id))
+                .andExpect(jsonPath("$.respBody.status", is("FAILED")));
+        mockMvc.perform(get("/api/testcases/" + id + "/executions").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.respBody.length()", is(1)))
+                .andExpect(jsonPath("$.respBody[0].buildId", is("b2")));
+    }
+
+    // Test conditional GET /api/testcases: a weak ETag over the page content
+    @Test
+    void testGetTestCases_NotModified() throws Exception {
+        String etag = mockMvc.perform(get("/api/testcases").param("status", "FAILED"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/testcases").param("status", "FAILED").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+    }
+
+    // Test conditional GET in another format: the ETag names the format and the response varies by Accept
+    @Test
+    void testGetTestCases_EtagPerFormat() throws Exception {
+        String json = mockMvc.perform(get("/api/testcases").param("status", "FAILED"))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String smile = mockMvc.perform(get("/api/testcases").param("status", "FAILED").accept(ExportFormat.SMILE_VALUE))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(json, smile);
+
+        // A JSON validator does not turn a Smile request into a 304 for a body the client never received
+        mockMvc.perform(get("/api/testcases").param("status", "FAILED").accept(ExportFormat.SMILE_VALUE)
+                        .header(HttpHeaders.IF_NONE_MATCH, json))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/testcases").param("status", "FAILED").accept(ExportFormat.SMILE_VALUE)
+                        .header(HttpHeaders.IF_NONE_MATCH, smile))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT));
+    }
+
+    // Test PATCH /api/testcases/{id}: only the supplied fields change
+    @Test
+    void testPatchTestCase() throws Exception {
+        TestCaseRequestDto requestDto = new TestCaseRequestDto();
+        requestDto.setTitle("Patch Target");
+        requestDto.setStatus(TestStatus.PENDING);
+        requestDto.setPriority(TestPriority.LOW);
+        MvcResult created = mockMvc.perform(post("/api/testcases/create")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDto)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        String id = JsonPath.read(created.getResponse().getContentAsString(), "$.respBody.id");
+
+        mockMvc.perform(patch("/api/testcases/" + id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"PASSED\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.respMsg", is("Test case updated successfully")))
+                .andExpect(jsonPath("$.respBody.status", is("PASSED")))
+                .andExpect(jsonPath("$.respBody.title", is("Patch Target")))
+                .andExpect(jsonPath("$.respBody.priority", is("LOW")));
+        mockMvc.perform(patch("/api/testcases/" + id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\" \"}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    // Test If-Match on PUT and PATCH: a write against a stale ETag is a 409
+    @Test
+    void testConditionalWrites() throws Exception {
+        TestCaseRequestDto requestDto = new TestCaseRequestDto();
+        requestDto.setTitle("Versioned Test Case");
+        requestDto.setStatus(TestStatus.PENDING);
+        requestDto.setPriority(TestPriority.LOW);
+        MvcResult created = mockMvc.perform(post("/api/testcases/create")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDto)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.respBody.version", is(0)))
+                .andReturn();
+        String id = JsonPath.read(created.getResponse().getContentAsString(), "$.respBody.id");
+        String etag = mockMvc.perform(get("/api/testcases/" + id))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        requestDto.setStatus(TestStatus.PASSED);
+        String updatedEtag = mockMvc.perform(put("/api/testcases/" + id)
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDto)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.respBody.version", is(1)))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(patch("/api/testcases/" + id)
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"FAILED\"}"))
+                .andExpect(status().isConflict());
+        mockMvc.perform(put("/api/testcases/" + id)
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDto)))
+                .andExpect(status().isConflict());
+        mockMvc.perform(patch("/api/testcases/" + id)
+                        .header(HttpHeaders.IF_MATCH, updatedEtag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"FAILED\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.respBody.version", is(2)));
+        mockMvc.perform(patch("/api/testcases/" + id)
+                        .header(HttpHeaders.IF_MATCH, "\"not-an-etag\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"FAILED\"}"))
+                .andExpect(status().isBadRequest());
+    }
+
     // Test PUT /api/testcases/{id}
     @Test
     void testUpdateTestCase() throws Exception {
@@ -110,4 +542,55 @@ class TestCaseControllerIntegrationTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.respMsg", is("Test case deleted successfully")));
     }
+
+    // Test POST /api/testcases/bulk/create with one valid and one invalid item
+    @Test
+    void testBulkCreateTestCases() throws Exception {
+        TestCaseRequestDto valid = new TestCaseRequestDto();
+        valid.setTitle("Bulk Test Case");
+        valid.setStatus(TestStatus.PENDING);
+        valid.setPriority(TestPriority.LOW);
+        TestCaseRequestDto invalid = new TestCaseRequestDto();
+
+        mockMvc.perform(post("/api/testcases/bulk/create")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(valid, invalid))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalCount", is(1)))
+                .andExpect(jsonPath("$.respBody[0].status", is("CREATED")))
+                .andExpect(jsonPath("$.respBody[1].status", is("INVALID")));
+    }
+
+    // Test DELETE /api/testcases/bulk with an unknown id
+    @Test
+    void testBulkDeleteTestCases_NotFound() throws Exception {
+        TestCaseRequestDto missing = new TestCaseRequestDto();
+        missing.setId("6600d4d2f8a7d00000000000");
+
+        mockMvc.perform(delete("/api/testcases/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(missing))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.respBody[0].status", is("NOT_FOUND")));
+    }
+
+    // Test GET /actuator/prometheus exposes the service, driver, serialization and request histograms
+    @Test
+    void testPrometheusScrape() throws Exception {
+        mockMvc.perform(get("/api/testcases")
+                        .param("status", "IN_PROGRESS")
+                        .param("priority", "LOW")
+                        .param("page", "7")
+                        .param("size", "3"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("testcases_query_seconds_bucket{application=\"TestCaseManagementSystem\",filter=\"status_priority\"")))
+                .andExpect(content().string(containsString("testcases_mapping_seconds_bucket")))
+                .andExpect(content().string(containsString("mongodb_driver_commands_seconds_bucket")))
+                .andExpect(content().string(containsString("mongodb_driver_pool_size")))
+                .andExpect(content().string(containsString("http_serialization_seconds_bucket")))
+                .andExpect(content().string(containsString("http_server_requests_seconds_bucket")));
+    }
 }
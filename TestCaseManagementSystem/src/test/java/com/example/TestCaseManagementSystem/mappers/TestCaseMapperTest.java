@@ -0,0 +1,124 @@
+package com.example.TestCaseManagementSystem.mappers;
+
+import com.example.TestCaseManagementSystem.dtos.TestCaseDto;
+import com.example.TestCaseManagementSystem.dtos.TestCasePatchDto;
+import com.example.TestCaseManagementSystem.dtos.TestCaseRequestDto;
+import com.example.TestCaseManagementSystem.entities.TestCase;
+import com.example.TestCaseManagementSystem.enums.TestCaseField;
+import com.example.TestCaseManagementSystem.enums.TestPriority;
+import com.example.TestCaseManagementSystem.enums.TestStatus;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestCaseMapperTest {
+
+    private final TestCaseMapper mapper = new TestCaseMapper();
+
+    @Test
+    void testToDto_CopiesAllFields() {
+        LocalDateTime now = LocalDateTime.now();
+        TestCase testCase = TestCase.builder()
+                .id("1")
+                .title("Login Test")
+                .description("Verify user login")
+                .status(TestStatus.PASSED)
+                .priority(TestPriority.HIGH)
+                .createdAt(now.minusDays(1))
+                .updatedAt(now)
+                .build();
+
+        TestCaseDto dto = mapper.toDto(testCase);
+
+        assertEquals("1", dto.getId());
+        assertEquals("Login Test", dto.getTitle());
+        assertEquals("Verify user login", dto.getDescription());
+        assertEquals(TestStatus.PASSED, dto.getStatus());
+        assertEquals(TestPriority.HIGH, dto.getPriority());
+        assertEquals(now.minusDays(1), dto.getCreatedAt());
+        assertEquals(now, dto.getUpdatedAt());
+    }
+
+    @Test
+    void testToEntity_LeavesIdAndTimestampsUnset() {
+        TestCaseRequestDto dto = new TestCaseRequestDto();
+        dto.setTitle("Login Test");
+        dto.setStatus(TestStatus.PENDING);
+
+        TestCase testCase = mapper.toEntity(dto);
+
+        assertNull(testCase.getId());
+        assertEquals("Login Test", testCase.getTitle());
+        assertEquals(TestStatus.PENDING, testCase.getStatus());
+        assertNull(testCase.getCreatedAt());
+    }
+
+    // Matches the ModelMapper defaults this mapper replaced: null request fields overwrite the entity
+    @Test
+    void testUpdateEntity_CopiesNullsAndKeepsIdentity() {
+        LocalDateTime createdAt = LocalDateTime.now().minusDays(1);
+        TestCase testCase = TestCase.builder()
+                .id("1")
+                .title("Old Test")
+                .description("Old description")
+                .status(TestStatus.PENDING)
+                .priority(TestPriority.HIGH)
+                .createdAt(createdAt)
+                .build();
+        TestCaseRequestDto dto = new TestCaseRequestDto();
+        dto.setTitle("New Test");
+        dto.setStatus(TestStatus.PASSED);
+
+        mapper.updateEntity(dto, testCase);
+
+        assertEquals("1", testCase.getId());
+        assertEquals("New Test", testCase.getTitle());
+        assertNull(testCase.getDescription());
+        assertEquals(TestStatus.PASSED, testCase.getStatus());
+        assertNull(testCase.getPriority());
+        assertEquals(createdAt, testCase.getCreatedAt());
+    }
+
+    @Test
+    void testPatch_OnlyTouchesSuppliedFields() {
+        TestCase testCase = TestCase.builder()
+                .id("1")
+                .title("Login Test")
+                .description("Verify user login")
+                .status(TestStatus.PENDING)
+                .priority(TestPriority.HIGH)
+                .build();
+        TestCasePatchDto dto = new TestCasePatchDto();
+        dto.setStatus(TestStatus.FAILED);
+
+        Document set = (Document) mapper.toUpdate(dto).getUpdateObject().get("$set");
+        mapper.patchEntity(dto, testCase);
+
+        assertEquals(1, set.size());
+        assertEquals(TestStatus.FAILED, set.get("status"));
+        assertEquals(TestStatus.FAILED, testCase.getStatus());
+        assertEquals("Login Test", testCase.getTitle());
+        assertEquals("Verify user login", testCase.getDescription());
+        assertEquals(TestPriority.HIGH, testCase.getPriority());
+    }
+
+    @Test
+    void testToFieldMap_KeepsSelectedFieldsInOrder() {
+        TestCaseDto dto = new TestCaseDto();
+        dto.setId("1");
+        dto.setTitle("Login Test");
+        dto.setDescription("A long description");
+        dto.setStatus(TestStatus.PASSED);
+
+        Map<String, Object> fields = mapper.toFieldMap(dto, TestCaseField.parseAll("status,title"));
+
+        assertEquals(List.of("id", "title", "status"), List.copyOf(fields.keySet()));
+        assertEquals(TestStatus.PASSED, fields.get("status"));
+        assertFalse(fields.containsKey("description"));
+    }
+}
@@ -1,18 +1,34 @@
 package com.example.TestCaseManagementSystem.repositories;
 
+import com.example.TestCaseManagementSystem.dtos.StatusPriorityCount;
+import com.example.TestCaseManagementSystem.dtos.TestCaseDateFilter;
+import com.example.TestCaseManagementSystem.dtos.TestCaseFacets;
 import com.example.TestCaseManagementSystem.entities.TestCase;
+import com.example.TestCaseManagementSystem.entities.TestExecution;
+import com.example.TestCaseManagementSystem.enums.TestCaseSortKey;
 import com.example.TestCaseManagementSystem.enums.TestPriority;
 import com.example.TestCaseManagementSystem.enums.TestStatus;
+import com.example.TestCaseManagementSystem.pagination.CursorToken;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.Pair;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -22,6 +38,9 @@ class TestCaseRepositoryTest {
     @Autowired
     private TestCaseRepository repository;
 
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
     @BeforeEach
     void setUp() {
         repository.deleteAll(); // Clean up before each test
@@ -107,4 +126,273 @@ class TestCaseRepositoryTest {
         // Total elements should be 15
         assertEquals(15, result.getTotalElements(), "Expected total elements to be 15");
     }
+
+    @Test
+    void testFindAfter_WalksAllDocumentsByKeyset() {
+        repository.deleteAll();
+
+        // Identical createdAt values force the _id tie-breaker to keep windows disjoint
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 24, 21, 0);
+        for (int i = 0; i < 7; i++) {
+            repository.save(TestCase.builder()
+                    .title("Keyset Test " + i)
+                    .status(TestStatus.PENDING)
+                    .priority(TestPriority.LOW)
+                    .createdAt(createdAt.plusMinutes(i / 3))
+                    .updatedAt(createdAt)
+                    .build());
+        }
+
+        Set<String> seen = new HashSet<>();
+        List<Integer> windowSizes = new ArrayList<>();
+        CursorToken after = null;
+        List<TestCase> window;
+        do {
+            window = repository.findAfter(TestStatus.PENDING, null, TestCaseSortKey.CREATED_AT, after, 3);
+            windowSizes.add(window.size());
+            window.forEach(testCase -> assertTrue(seen.add(testCase.getId()), "Duplicate across windows"));
+            if (!window.isEmpty()) {
+                after = CursorToken.of(TestCaseSortKey.CREATED_AT, window.get(window.size() - 1));
+            }
+        } while (window.size() == 3);
+
+        assertEquals(7, seen.size());
+        assertEquals(List.of(3, 3, 1), windowSizes);
+    }
+
+    @Test
+    void testSearch_RanksByRelevanceAndPagesByScore() {
+        repository.saveAll(List.of(
+                TestCase.builder().title("Login with password").description("Password login").status(TestStatus.FAILED).build(),
+                TestCase.builder().title("Login with SSO").status(TestStatus.FAILED).build(),
+                TestCase.builder().title("Checkout").description("Requires a login first").status(TestStatus.FAILED).build(),
+                TestCase.builder().title("Login banner").status(TestStatus.PASSED).build(),
+                TestCase.builder().title("Logout").status(TestStatus.FAILED).build()));
+
+        List<TestCase> all = repository.search("login", TestStatus.FAILED, null, null, 10);
+        assertEquals(List.of("Login with password", "Login with SSO", "Checkout"), all.stream().map(TestCase::getTitle).toList());
+        assertTrue(all.get(0).getScore() > all.get(1).getScore(), "A match in title and description outranks a title-only match");
+
+        List<TestCase> first = repository.search("login", TestStatus.FAILED, null, null, 2);
+        List<TestCase> rest = repository.search("login", TestStatus.FAILED, null,
+                CursorToken.of(TestCaseSortKey.SCORE, first.get(1)), 2);
+        assertEquals(List.of("Checkout"), rest.stream().map(TestCase::getTitle).toList());
+    }
+
+    // The page and every facet count come from one aggregation and share the filter
+    @Test
+    void testFindFaceted_PageAndCountsShareFilter() {
+        repository.save(TestCase.builder().title("Test Case 4").status(TestStatus.FAILED).priority(TestPriority.HIGH)
+                .createdAt(LocalDateTime.now()).build());
+
+        TestCaseFacets all = repository.findFaceted(null, null, PageRequest.of(1, 3));
+        assertEquals(4, all.getPage().getTotalElements());
+        assertEquals(List.of("Test Case 4"), all.getPage().getContent().stream().map(TestCase::getTitle).toList());
+        assertEquals(Map.of(TestStatus.PASSED, 1L, TestStatus.FAILED, 2L, TestStatus.PENDING, 1L, TestStatus.IN_PROGRESS, 0L),
+                all.getStatusCounts());
+        assertEquals(Map.of(TestPriority.HIGH, 2L, TestPriority.MEDIUM, 1L, TestPriority.LOW, 1L), all.getPriorityCounts());
+
+        TestCaseFacets failed = repository.findFaceted(TestStatus.FAILED, null, PageRequest.of(0, 10));
+        assertEquals(List.of("Test Case 2", "Test Case 4"), failed.getPage().getContent().stream().map(TestCase::getTitle).toList());
+        assertEquals(2L, failed.getStatusCounts().get(TestStatus.FAILED));
+        assertEquals(0L, failed.getStatusCounts().get(TestStatus.PASSED));
+        assertEquals(Map.of(TestPriority.HIGH, 1L, TestPriority.MEDIUM, 1L, TestPriority.LOW, 0L), failed.getPriorityCounts());
+
+        TestCaseFacets none = repository.findFaceted(TestStatus.IN_PROGRESS, TestPriority.LOW, PageRequest.of(0, 10));
+        assertEquals(0, none.getPage().getTotalElements());
+        assertTrue(none.getPage().getContent().isEmpty());
+        assertTrue(none.getStatusCounts().values().stream().allMatch(count -> count == 0));
+    }
+
+    @Test
+    void testCountGroupedByStatusAndPriority() {
+        List<StatusPriorityCount> rows = repository.countGroupedByStatusAndPriority();
+        assertEquals(3, rows.size());
+        StatusPriorityCount failedMedium = rows.stream()
+                .filter(row -> row.getStatus() == TestStatus.FAILED)
+                .findFirst()
+                .orElseThrow();
+        assertEquals(TestPriority.MEDIUM, failedMedium.getPriority());
+        assertEquals(1, failedMedium.getCount());
+    }
+
+    @Test
+    void testFindAndRemoveById() {
+        TestCase existing = repository.findByStatus(TestStatus.PASSED, PageRequest.of(0, 1)).getContent().get(0);
+        TestCase removed = repository.findAndRemoveById(existing.getId()).orElseThrow();
+        assertEquals(TestStatus.PASSED, removed.getStatus());
+        assertFalse(repository.existsById(existing.getId()));
+        assertTrue(repository.findAndRemoveById(existing.getId()).isEmpty());
+    }
+
+    @Test
+    void testFindAndModifyById_ReturnsPreviousDocument() {
+        TestCase existing = repository.findByStatus(TestStatus.PASSED, PageRequest.of(0, 1)).getContent().get(0);
+        TestCase previous = repository.findAndModifyById(existing.getId(), null, new Update().set("status", TestStatus.FAILED)).orElseThrow();
+        assertEquals(TestStatus.PASSED, previous.getStatus());
+        TestCase stored = repository.findById(existing.getId()).orElseThrow();
+        assertEquals(TestStatus.FAILED, stored.getStatus());
+        assertEquals(existing.getTitle(), stored.getTitle());
+        assertEquals(existing.getVersion() + 1, stored.getVersion());
+        assertTrue(repository.findAndModifyById("missing", null, new Update().set("status", TestStatus.FAILED)).isEmpty());
+    }
+
+    @Test
+    void testSave_RejectsStaleVersion() {
+        TestCase existing = repository.findByStatus(TestStatus.PASSED, PageRequest.of(0, 1)).getContent().get(0);
+        TestCase stale = repository.findById(existing.getId()).orElseThrow();
+        assertEquals(0L, existing.getVersion());
+
+        existing.setTitle("First writer");
+        assertEquals(1L, repository.save(existing).getVersion());
+
+        stale.setTitle("Second writer");
+        assertThrows(OptimisticLockingFailureException.class, () -> repository.save(stale));
+        assertEquals("First writer", repository.findById(existing.getId()).orElseThrow().getTitle());
+    }
+
+    @Test
+    void testFindAndModifyById_ExpectedVersion() {
+        TestCase existing = repository.findByStatus(TestStatus.PASSED, PageRequest.of(0, 1)).getContent().get(0);
+        assertTrue(repository.findAndModifyById(existing.getId(), 5L, new Update().set("title", "Stale")).isEmpty());
+        assertTrue(repository.findAndModifyById(existing.getId(), 0L, new Update().set("title", "Current")).isPresent());
+        TestCase stored = repository.findById(existing.getId()).orElseThrow();
+        assertEquals("Current", stored.getTitle());
+        assertEquals(1L, stored.getVersion());
+    }
+
+    @Test
+    void testInitializeMissingVersions() {
+        TestCase existing = repository.findByStatus(TestStatus.PASSED, PageRequest.of(0, 1)).getContent().get(0);
+        mongoTemplate.updateFirst(Query.query(Criteria.where("id").is(existing.getId())),
+                new Update().unset("version"), TestCase.class);
+
+        assertEquals(1, repository.initializeMissingVersions());
+        assertEquals(0L, repository.findById(existing.getId()).orElseThrow().getVersion());
+        assertEquals(0, repository.initializeMissingVersions());
+    }
+
+    @Test
+    void testFindProjected_LoadsOnlySelectedFields() {
+        Page<TestCase> result = repository.findProjected(TestStatus.FAILED, null, null, List.of("id", "title"), PageRequest.of(0, 10));
+        assertEquals(1, result.getTotalElements());
+        TestCase testCase = result.getContent().get(0);
+        assertEquals("Test Case 2", testCase.getTitle());
+        assertNull(testCase.getStatus());
+        assertNull(testCase.getCreatedAt());
+
+        TestCase byId = repository.findProjectedById(testCase.getId(), List.of("status")).orElseThrow();
+        assertEquals(TestStatus.FAILED, byId.getStatus());
+        assertNull(byId.getTitle());
+    }
+
+    // Lower bounds are inclusive and upper bounds exclusive, and both timestamps combine with the other filters
+    @Test
+    void testFindFiltered_BoundsCreatedAndUpdatedAt() {
+        repository.deleteAll();
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 0, 0);
+        for (int day = 0; day < 5; day++) {
+            repository.save(TestCase.builder().title("Day " + day).status(day % 2 == 0 ? TestStatus.PASSED : TestStatus.FAILED)
+                    .createdAt(start.plusDays(day)).updatedAt(start.plusDays(day + 10)).build());
+        }
+
+        Page<TestCase> created = repository.findFiltered(null, null,
+                new TestCaseDateFilter(start.plusDays(1), start.plusDays(3), null, null), PageRequest.of(0, 10));
+        assertEquals(Set.of("Day 1", "Day 2"), new HashSet<>(created.getContent().stream().map(TestCase::getTitle).toList()));
+        assertEquals(2, created.getTotalElements());
+
+        Page<TestCase> updated = repository.findFiltered(TestStatus.PASSED, null,
+                new TestCaseDateFilter(null, null, start.plusDays(12), null), PageRequest.of(0, 10));
+        assertEquals(Set.of("Day 2", "Day 4"), new HashSet<>(updated.getContent().stream().map(TestCase::getTitle).toList()));
+
+        Page<TestCase> projected = repository.findProjected(null, null,
+                new TestCaseDateFilter(null, start.plusDays(1), null, start.plusDays(11)), List.of("id", "title"), PageRequest.of(0, 10));
+        assertEquals(List.of("Day 0"), projected.getContent().stream().map(TestCase::getTitle).toList());
+    }
+
+    // The change feed walks (updatedAt, id) after a watermark and stops at the settle horizon
+    @Test
+    void testFindChanged_WalksByUpdatedAtAndStopsAtHorizon() {
+        repository.deleteAll();
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 0, 0);
+        repository.save(TestCase.builder().title("Never updated").build());
+        for (int i = 0; i < 4; i++) {
+            // Two documents share each timestamp, so the id breaks ties
+            repository.save(TestCase.builder().title("Change " + i).updatedAt(start.plusMinutes(i / 2)).build());
+        }
+        repository.save(TestCase.builder().title("Unsettled").updatedAt(start.plusHours(1)).build());
+        LocalDateTime until = start.plusMinutes(30);
+
+        List<String> walked = new ArrayList<>();
+        CursorToken cursor = null;
+        List<TestCase> window;
+        do {
+            window = repository.findChanged(null, cursor, until, 2);
+            window.forEach(testCase -> walked.add(testCase.getTitle()));
+            cursor = window.isEmpty() ? cursor : CursorToken.of(TestCaseSortKey.UPDATED_AT, window.get(window.size() - 1));
+        } while (!window.isEmpty());
+        assertEquals("Never updated", walked.get(0));
+        assertEquals(Set.of("Change 0", "Change 1"), new HashSet<>(walked.subList(1, 3)));
+        assertEquals(Set.of("Change 2", "Change 3"), new HashSet<>(walked.subList(3, 5)));
+        assertEquals(5, walked.size());
+
+        assertEquals(Set.of("Change 2", "Change 3"), new HashSet<>(repository.findChanged(start, null, until, 10).stream()
+                .map(TestCase::getTitle).toList()));
+        assertEquals(List.of("Unsettled"), repository.findChanged(start.plusMinutes(1), null, start.plusHours(2), 10).stream()
+                .map(TestCase::getTitle).toList());
+    }
+
+    @Test
+    void testFindStampById_ProjectsValidators() {
+        TestCase existing = repository.findByStatus(TestStatus.PASSED, PageRequest.of(0, 1)).getContent().get(0);
+        TestCase stamp = repository.findStampById(existing.getId()).orElseThrow();
+        assertEquals(existing.getId(), stamp.getId());
+        assertEquals(existing.getUpdatedAt(), stamp.getUpdatedAt());
+        assertEquals(existing.getVersion(), stamp.getVersion());
+        assertNull(stamp.getTitle());
+        assertTrue(repository.findStampById("missing").isEmpty());
+    }
+
+    @Test
+    void testBulkInsertUpdateAndRemove() {
+        TestCase first = TestCase.builder().id("6600d4d2f8a7d00000000001").title("Bulk 1").status(TestStatus.PENDING).build();
+        TestCase duplicate = TestCase.builder().id("6600d4d2f8a7d00000000001").title("Bulk 1 again").build();
+        TestCase second = TestCase.builder().id("6600d4d2f8a7d00000000002").title("Bulk 2").status(TestStatus.PENDING).build();
+
+        Map<Integer, String> insertErrors = repository.bulkInsert(List.of(first, duplicate, second));
+        assertEquals(Set.of(1), insertErrors.keySet(), "Unordered insert should only fail the duplicate");
+        assertTrue(repository.existsById(second.getId()));
+
+        Map<Integer, String> updateErrors = repository.bulkUpdate(List.of(
+                Pair.of(first.getId(), new Update().set("status", TestStatus.PASSED))));
+        assertTrue(updateErrors.isEmpty());
+        TestCase updated = repository.findById(first.getId()).orElseThrow();
+        assertEquals(TestStatus.PASSED, updated.getStatus());
+        assertEquals(1L, updated.getVersion(), "Inserted at version 0, then incremented by the update");
+
+        List<TestCase> states = repository.findStatusAndPriorityByIdIn(List.of(first.getId(), second.getId()));
+        assertEquals(2, states.size());
+        assertNull(states.get(0).getTitle(), "Only status and priority are projected");
+
+        assertTrue(repository.bulkRemove(List.of(first.getId(), second.getId())).isEmpty());
+        assertFalse(repository.existsById(first.getId()));
+    }
+
+    @Test
+    void testBulkUpdateIfExecutedBefore_SkipsOlderResults() {
+        LocalDateTime run = LocalDateTime.of(2025, 3, 24, 21, 0);
+        TestCase testCase = TestCase.builder().id("6600d4d2f8a7d00000000003").title("Executed").status(TestStatus.PENDING).build();
+        repository.bulkInsert(List.of(testCase));
+
+        TestExecution newer = TestExecution.builder().testCaseId(testCase.getId()).executedAt(run).build();
+        TestExecution older = TestExecution.builder().testCaseId(testCase.getId()).executedAt(run.minusMinutes(1)).build();
+        assertTrue(repository.bulkUpdateIfExecutedBefore(List.of(Pair.of(newer,
+                new Update().set("status", TestStatus.FAILED).set("lastExecutedAt", run)))).isEmpty());
+        assertTrue(repository.bulkUpdateIfExecutedBefore(List.of(Pair.of(older,
+                new Update().set("status", TestStatus.PASSED).set("lastExecutedAt", older.getExecutedAt())))).isEmpty());
+
+        TestCase stored = repository.findStatusAndPriorityByIdIn(List.of(testCase.getId())).get(0);
+        assertEquals(TestStatus.FAILED, stored.getStatus(), "The older result must not overwrite the newer status");
+        assertEquals(run, stored.getLastExecutedAt());
+    }
 }
@@ -0,0 +1,59 @@
+package com.example.TestCaseManagementSystem.repositories;
+
+import com.example.TestCaseManagementSystem.entities.TestExecution;
+import com.example.TestCaseManagementSystem.enums.TestStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataMongoTest
+class TestExecutionRepositoryTest {
+
+    @Autowired
+    private TestExecutionRepository repository;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate.dropCollection(TestExecution.class);
+    }
+
+    @Test
+    void testCreateCollectionIfMissing() {
+        assertTrue(repository.createCollectionIfMissing());
+        assertTrue(mongoTemplate.collectionExists(TestExecution.class));
+        assertFalse(repository.createCollectionIfMissing());
+    }
+
+    // A batch goes out as one unordered bulk insert and a test case's history reads back newest first
+    @Test
+    void testBulkInsertAndReadHistory() {
+        repository.createCollectionIfMissing();
+        LocalDateTime start = LocalDateTime.of(2025, 3, 24, 21, 0);
+        List<TestExecution> executions = new ArrayList<>();
+        for (int run = 0; run < 5; run++) {
+            executions.add(TestExecution.builder().testCaseId("a").status(run % 2 == 0 ? TestStatus.PASSED : TestStatus.FAILED)
+                    .durationMillis(100L + run).buildId("build-" + run).executedAt(start.plusMinutes(run)).build());
+        }
+        executions.add(TestExecution.builder().testCaseId("b").status(TestStatus.PASSED).durationMillis(5L)
+                .buildId("build-0").executedAt(start).build());
+
+        assertTrue(repository.bulkInsert(executions).isEmpty());
+
+        List<TestExecution> history = repository.findByTestCaseIdOrderByExecutedAtDesc("a", PageRequest.of(0, 3));
+        assertEquals(List.of("build-4", "build-3", "build-2"), history.stream().map(TestExecution::getBuildId).toList());
+        assertEquals(104L, history.get(0).getDurationMillis());
+        assertEquals(6, repository.count());
+    }
+}
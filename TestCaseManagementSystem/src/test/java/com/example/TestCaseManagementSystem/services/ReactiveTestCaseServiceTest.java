@@ -0,0 +1,135 @@
+package com.example.TestCaseManagementSystem.services;
+
+import com.example.TestCaseManagementSystem.dtos.TestCaseDto;
+import com.example.TestCaseManagementSystem.dtos.TestCaseRequestDto;
+import com.example.TestCaseManagementSystem.entities.TestCase;
+import com.example.TestCaseManagementSystem.enums.TestPriority;
+import com.example.TestCaseManagementSystem.enums.TestStatus;
+import com.example.TestCaseManagementSystem.exceptions.ConflictException;
+import com.example.TestCaseManagementSystem.exceptions.ResourceNotFoundException;
+import com.example.TestCaseManagementSystem.mappers.TestCaseMapper;
+import com.example.TestCaseManagementSystem.repositories.ReactiveTestCaseRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveTestCaseServiceTest {
+
+    @Mock
+    private ReactiveTestCaseRepository repository;
+
+    @Mock
+    private TestCaseCounts counts;
+
+    private ReactiveTestCaseService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ReactiveTestCaseService(repository, new TestCaseMapper(), counts, 2);
+    }
+
+    private static TestCase testCase(String id, TestStatus status) {
+        return TestCase.builder().id(id).title("Login Test").status(status).priority(TestPriority.HIGH).build();
+    }
+
+    // The window and the matching count are combined into one page
+    @Test
+    void testGetTestCases_WithStatus() {
+        PageRequest pageable = PageRequest.of(0, 2);
+        when(repository.findByStatus(TestStatus.PENDING, pageable))
+                .thenReturn(Flux.just(testCase("1", TestStatus.PENDING), testCase("2", TestStatus.PENDING)));
+        when(repository.countByStatus(TestStatus.PENDING)).thenReturn(Mono.just(5L));
+
+        Page<TestCaseDto> page = service.getTestCases(TestStatus.PENDING, null, pageable).block();
+
+        assertNotNull(page);
+        assertEquals(5, page.getTotalElements());
+        assertEquals(2, page.getContent().size());
+        assertEquals("1", page.getContent().get(0).getId());
+    }
+
+    // A missing test case surfaces as ResourceNotFoundException
+    @Test
+    void testGetTestCaseById_NotFound() {
+        when(repository.findById("missing")).thenReturn(Mono.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> service.getTestCaseById("missing").block());
+    }
+
+    // A save that keeps losing to concurrent writers is retried on a fresh read, then reported as a conflict
+    @Test
+    void testUpdateTestCase_ConflictAfterMaxAttempts() {
+        when(repository.findById("1")).thenAnswer(invocation -> Mono.just(testCase("1", TestStatus.PENDING)));
+        when(repository.save(any(TestCase.class))).thenReturn(Mono.error(new OptimisticLockingFailureException("stale")));
+        TestCaseRequestDto dto = new TestCaseRequestDto();
+        dto.setTitle("Login Test");
+        dto.setStatus(TestStatus.PASSED);
+        dto.setPriority(TestPriority.HIGH);
+
+        assertThrows(ConflictException.class, () -> service.updateTestCase("1", dto, null).block());
+        verify(repository, times(2)).findById("1");
+        verifyNoInteractions(counts);
+    }
+
+    // With an expected version from If-Match, a stale document is a conflict and a lost save is not retried
+    @Test
+    void testUpdateTestCase_ExpectedVersion() {
+        TestCase existing = testCase("1", TestStatus.PENDING);
+        existing.setVersion(3L);
+        when(repository.findById("1")).thenAnswer(invocation -> Mono.just(existing));
+        when(repository.save(any(TestCase.class))).thenReturn(Mono.error(new OptimisticLockingFailureException("stale")));
+        TestCaseRequestDto dto = new TestCaseRequestDto();
+        dto.setTitle("Login Test");
+        dto.setStatus(TestStatus.PASSED);
+        dto.setPriority(TestPriority.HIGH);
+
+        assertThrows(ConflictException.class, () -> service.updateTestCase("1", dto, 2L).block());
+        verify(repository, never()).save(any(TestCase.class));
+        assertThrows(ConflictException.class, () -> service.updateTestCase("1", dto, 3L).block());
+        verify(repository, times(2)).findById("1");
+        verify(repository).save(any(TestCase.class));
+        verifyNoInteractions(counts);
+    }
+
+    // Updating moves the count from the old cell to the new one
+    @Test
+    void testUpdateTestCase_MovesCount() {
+        when(repository.findById("1")).thenReturn(Mono.just(testCase("1", TestStatus.PENDING)));
+        when(repository.save(any(TestCase.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        TestCaseRequestDto dto = new TestCaseRequestDto();
+        dto.setTitle("Login Test");
+        dto.setStatus(TestStatus.PASSED);
+        dto.setPriority(TestPriority.HIGH);
+
+        TestCaseDto updated = service.updateTestCase("1", dto, null).block();
+
+        assertNotNull(updated);
+        assertEquals(TestStatus.PASSED, updated.getStatus());
+        verify(counts).move(TestStatus.PENDING, TestPriority.HIGH, TestStatus.PASSED, TestPriority.HIGH);
+    }
+
+    // Deleting decrements the removed document's cell, and nothing when it did not exist
+    @Test
+    void testDeleteTestCase() {
+        when(repository.deleteTestCaseById("1")).thenReturn(Mono.just(testCase("1", TestStatus.FAILED)));
+        when(repository.deleteTestCaseById("2")).thenReturn(Mono.empty());
+
+        service.deleteTestCase("1").block();
+        service.deleteTestCase("2").block();
+
+        verify(counts).decrement(TestStatus.FAILED, TestPriority.HIGH);
+        verifyNoMoreInteractions(counts);
+    }
+}
@@ -0,0 +1,197 @@
+package com.example.TestCaseManagementSystem.services;
+
+import com.example.TestCaseManagementSystem.dtos.BulkItemResultDto;
+import com.example.TestCaseManagementSystem.dtos.TestCaseRequestDto;
+import com.example.TestCaseManagementSystem.entities.TestCase;
+import com.example.TestCaseManagementSystem.enums.BulkItemStatus;
+import com.example.TestCaseManagementSystem.enums.TestPriority;
+import com.example.TestCaseManagementSystem.enums.TestStatus;
+import com.example.TestCaseManagementSystem.mappers.TestCaseMapper;
+import com.example.TestCaseManagementSystem.repositories.TestCaseRepository;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.Pair;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TestCaseBulkServiceTest {
+
+    @Mock
+    private TestCaseRepository repository;
+
+    @Mock
+    private TestCaseCounts counts;
+
+    @Mock
+    private TestCaseCache cache;
+
+    @Mock
+    private TestCasePageCache pageCache;
+
+    @Mock
+    private TestCaseTitleIndex titleIndex;
+
+    private TestCaseWriteBehindBuffer writeBehind;
+
+    private TestCaseBulkService service;
+
+    @BeforeEach
+    void setUp() {
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+        writeBehind = new TestCaseWriteBehindBuffer(repository, counts, cache, pageCache, titleIndex, true, 100);
+        service = new TestCaseBulkService(repository, new TestCaseMapper(), counts, cache, pageCache, titleIndex,
+                writeBehind, validator, 2);
+    }
+
+    // A chunk size below 1 would never advance through the request, so it fails at startup
+    @Test
+    void testConstructor_RejectsNonPositiveChunkSize() {
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+        assertThrows(IllegalArgumentException.class, () -> new TestCaseBulkService(repository, new TestCaseMapper(),
+                counts, cache, pageCache, titleIndex, writeBehind, validator, 0));
+    }
+
+    private static TestCaseRequestDto request(String id, String title, TestStatus status) {
+        TestCaseRequestDto dto = new TestCaseRequestDto();
+        dto.setId(id);
+        dto.setTitle(title);
+        dto.setStatus(status);
+        dto.setPriority(TestPriority.HIGH);
+        return dto;
+    }
+
+    // Invalid items are reported without being sent, valid ones go out in chunks and write errors map back by index
+    @Test
+    void testCreateTestCases_ReportsEachItem() {
+        when(repository.bulkInsert(anyList())).thenAnswer(invocation -> {
+            List<TestCase> chunk = invocation.getArgument(0);
+            return "Third".equals(chunk.get(0).getTitle()) ? Map.of(0, "E11000 duplicate key") : Map.of();
+        });
+
+        List<BulkItemResultDto> results = service.createTestCases(List.of(
+                request(null, "First", TestStatus.PENDING),
+                request(null, " ", TestStatus.PENDING),
+                request(null, "Second", TestStatus.PENDING),
+                request(null, "Third", TestStatus.FAILED)));
+
+        assertEquals(BulkItemStatus.CREATED, results.get(0).getStatus());
+        assertNotNull(results.get(0).getId());
+        assertEquals(BulkItemStatus.INVALID, results.get(1).getStatus());
+        assertEquals("Title is required", results.get(1).getMessage());
+        assertEquals(BulkItemStatus.CREATED, results.get(2).getStatus());
+        assertEquals(BulkItemStatus.FAILED, results.get(3).getStatus());
+        assertEquals("E11000 duplicate key", results.get(3).getMessage());
+        verify(repository, times(2)).bulkInsert(anyList());
+        verify(counts, times(2)).increment(TestStatus.PENDING, TestPriority.HIGH);
+        verify(counts, never()).increment(eq(TestStatus.FAILED), any());
+    }
+
+    // Each chunk is stamped as it is written, so a later chunk never carries an earlier updatedAt than its write
+    @SuppressWarnings("unchecked")
+    @Test
+    void testCreateTestCases_StampsEachChunk() {
+        List<List<TestCase>> chunks = new ArrayList<>();
+        when(repository.bulkInsert(anyList())).thenAnswer(invocation -> {
+            chunks.add(invocation.getArgument(0, List.class));
+            Thread.sleep(5);
+            return Map.of();
+        });
+
+        service.createTestCases(List.of(
+                request(null, "First", TestStatus.PENDING),
+                request(null, "Second", TestStatus.PENDING),
+                request(null, "Third", TestStatus.PENDING)));
+
+        assertEquals(2, chunks.size());
+        LocalDateTime first = chunks.get(0).get(0).getUpdatedAt();
+        assertEquals(first, chunks.get(0).get(1).getUpdatedAt());
+        assertTrue(chunks.get(1).get(0).getUpdatedAt().isAfter(first));
+    }
+
+    // Unknown ids are reported as not found and never sent; applied updates move the count matrix
+    @Test
+    void testUpdateTestCases_NotFoundAndUpdated() {
+        TestCase existing = TestCase.builder().id("a").status(TestStatus.PENDING).priority(TestPriority.LOW).build();
+        when(repository.findStatusAndPriorityByIdIn(anyCollection())).thenReturn(List.of(existing));
+        when(repository.bulkUpdate(anyList())).thenReturn(Map.of());
+
+        List<BulkItemResultDto> results = service.updateTestCases(List.of(
+                request("a", "Updated", TestStatus.PASSED),
+                request("b", "Missing", TestStatus.PASSED),
+                request(null, "No id", TestStatus.PASSED)));
+
+        assertEquals(BulkItemStatus.UPDATED, results.get(0).getStatus());
+        assertEquals(BulkItemStatus.NOT_FOUND, results.get(1).getStatus());
+        assertEquals(BulkItemStatus.INVALID, results.get(2).getStatus());
+        verify(repository, times(1)).bulkUpdate(argThat(updates -> updates.size() == 1));
+        verify(counts).move(TestStatus.PENDING, TestPriority.LOW, TestStatus.PASSED, TestPriority.HIGH);
+        verify(cache).invalidateAll(List.of("a"));
+    }
+
+    // A PUT buffered before a bulk update is written first, so the bulk update is the one that stays
+    @Test
+    void testUpdateTestCases_FlushesBufferedUpdateFirst() {
+        TestCase existing = TestCase.builder().id("a").status(TestStatus.PENDING).priority(TestPriority.LOW).build();
+        when(repository.findStatusAndPriorityByIdIn(anyCollection())).thenReturn(List.of(existing));
+        when(repository.bulkUpdate(anyList())).thenReturn(Map.of());
+        writeBehind.enqueue("a", request("a", "Buffered", TestStatus.FAILED));
+
+        service.updateTestCases(List.of(request("a", "Bulk", TestStatus.PASSED)));
+
+        InOrder order = inOrder(repository);
+        order.verify(repository).bulkUpdate(argThat(updates -> titleOf(updates).equals("Buffered")));
+        order.verify(repository).bulkUpdate(argThat(updates -> titleOf(updates).equals("Bulk")));
+        assertFalse(writeBehind.isPending("a"));
+    }
+
+    // Deleted test cases lose their buffered update, which is no longer overlaid on reads
+    @Test
+    void testDeleteTestCases_DiscardsBufferedUpdate() {
+        TestCase existing = TestCase.builder().id("a").status(TestStatus.FAILED).priority(TestPriority.HIGH).build();
+        when(repository.findStatusAndPriorityByIdIn(anyCollection())).thenReturn(List.of(existing));
+        when(repository.bulkRemove(anyList())).thenReturn(Map.of());
+        writeBehind.enqueue("a", request("a", "Buffered", TestStatus.PASSED));
+
+        service.deleteTestCases(List.of(request("a", null, null)));
+
+        assertFalse(writeBehind.isPending("a"));
+        verify(repository, never()).bulkUpdate(anyList());
+    }
+
+    private static Object titleOf(List<Pair<String, Update>> updates) {
+        return updates.get(0).getSecond().getUpdateObject().get("$set", Map.class).get("title");
+    }
+
+    // A repeated id is only deleted and counted once
+    @Test
+    void testDeleteTestCases_DuplicateIdDeletedOnce() {
+        TestCase existing = TestCase.builder().id("a").status(TestStatus.FAILED).priority(TestPriority.HIGH).build();
+        when(repository.findStatusAndPriorityByIdIn(anyCollection())).thenReturn(List.of(existing));
+        when(repository.bulkRemove(anyList())).thenReturn(Map.of());
+
+        List<BulkItemResultDto> results = service.deleteTestCases(List.of(
+                request("a", null, null),
+                request("a", null, null)));
+
+        assertEquals(BulkItemStatus.DELETED, results.get(0).getStatus());
+        assertEquals(BulkItemStatus.NOT_FOUND, results.get(1).getStatus());
+        verify(repository).bulkRemove(List.of("a"));
+        verify(counts, times(1)).decrement(TestStatus.FAILED, TestPriority.HIGH);
+        verify(cache).invalidateAll(List.of("a"));
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.TestCaseManagementSystem.services;
+
+import com.example.TestCaseManagementSystem.dtos.CacheStatsDto;
+import com.example.TestCaseManagementSystem.dtos.TestCaseDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestCaseCacheTest {
+
+    private static TestCaseDto dto(String id) {
+        TestCaseDto dto = new TestCaseDto();
+        dto.setId(id);
+        return dto;
+    }
+
+    // Hits, misses and not-found lookups are counted, and not-found results are not cached
+    @Test
+    void testGet_CountsHitsAndMisses() {
+        TestCaseCache cache = new TestCaseCache(100, Duration.ofMinutes(10));
+
+        cache.get("1", TestCaseCacheTest::dto);
+        cache.get("1", id -> fail("Should be served from the cache"));
+        assertNull(cache.get("2", id -> null));
+        assertNotNull(cache.get("2", TestCaseCacheTest::dto));
+
+        CacheStatsDto stats = cache.stats();
+        assertEquals(1, stats.getHitCount());
+        assertEquals(3, stats.getMissCount());
+        assertEquals(2, stats.getEstimatedSize());
+        assertEquals(100, stats.getMaximumSize());
+    }
+
+    // Invalidated ids are loaded again on the next lookup
+    @Test
+    void testInvalidateAll_ForcesReload() {
+        TestCaseCache cache = new TestCaseCache(100, Duration.ofMinutes(10));
+        cache.get("1", TestCaseCacheTest::dto);
+        cache.get("2", TestCaseCacheTest::dto);
+
+        cache.invalidateAll(List.of("1", "2"));
+
+        TestCaseDto reloaded = dto("1");
+        assertSame(reloaded, cache.get("1", id -> reloaded));
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.TestCaseManagementSystem.services;
+
+import com.example.TestCaseManagementSystem.dtos.StatusPriorityCount;
+import com.example.TestCaseManagementSystem.dtos.TestCaseStatsDto;
+import com.example.TestCaseManagementSystem.enums.TestPriority;
+import com.example.TestCaseManagementSystem.enums.TestStatus;
+import com.example.TestCaseManagementSystem.repositories.TestCaseRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TestCaseCountsTest {
+
+    @Mock
+    private TestCaseRepository repository;
+
+    @InjectMocks
+    private TestCaseCounts counts;
+
+    private static StatusPriorityCount row(TestStatus status, TestPriority priority, long count) {
+        StatusPriorityCount row = new StatusPriorityCount();
+        row.setStatus(status);
+        row.setPriority(priority);
+        row.setCount(count);
+        return row;
+    }
+
+    // Seeding fills the matrix from one aggregation, skipping documents without a status or priority
+    @Test
+    void testSeed_FillsMatrixFromAggregation() {
+        when(repository.countGroupedByStatusAndPriority()).thenReturn(List.of(
+                row(TestStatus.FAILED, TestPriority.HIGH, 3),
+                row(TestStatus.FAILED, TestPriority.LOW, 2),
+                row(TestStatus.PASSED, TestPriority.HIGH, 5),
+                row(null, TestPriority.HIGH, 7)));
+
+        counts.seed();
+
+        assertEquals(3, counts.count(TestStatus.FAILED, TestPriority.HIGH));
+        assertEquals(5, counts.count(TestStatus.FAILED, null));
+        assertEquals(8, counts.count(null, TestPriority.HIGH));
+        TestCaseStatsDto stats = counts.snapshot();
+        assertEquals(10, stats.getTotal());
+        assertEquals(0L, stats.getCounts().get(TestStatus.PENDING).get(TestPriority.MEDIUM));
+        verify(repository, times(1)).countGroupedByStatusAndPriority();
+    }
+
+    // Write paths adjust cells in memory, and reconciliation replaces any drift
+    @Test
+    void testWritesThenReconcile() {
+        counts.increment(TestStatus.PENDING, TestPriority.LOW);
+        counts.increment(TestStatus.PENDING, TestPriority.LOW);
+        counts.move(TestStatus.PENDING, TestPriority.LOW, TestStatus.PASSED, TestPriority.LOW);
+        counts.increment(null, TestPriority.LOW);
+        assertEquals(1, counts.count(TestStatus.PENDING, TestPriority.LOW));
+        assertEquals(1, counts.count(TestStatus.PASSED, TestPriority.LOW));
+
+        when(repository.countGroupedByStatusAndPriority()).thenReturn(List.of(row(TestStatus.PASSED, TestPriority.LOW, 4)));
+        counts.reconcile();
+
+        assertEquals(0, counts.count(TestStatus.PENDING, TestPriority.LOW));
+        assertEquals(4, counts.estimate(null, TestPriority.LOW));
+    }
+
+    // Writes that land while the aggregation runs are not overwritten by its result
+    @Test
+    void testReconcile_KeepsWritesMadeDuringAggregation() {
+        counts.increment(TestStatus.FAILED, TestPriority.HIGH);
+        when(repository.countGroupedByStatusAndPriority()).thenAnswer(invocation -> {
+            counts.increment(TestStatus.FAILED, TestPriority.HIGH);
+            counts.decrement(TestStatus.PASSED, TestPriority.LOW);
+            return List.of(row(TestStatus.FAILED, TestPriority.HIGH, 5), row(TestStatus.PASSED, TestPriority.LOW, 3));
+        });
+
+        counts.reconcile();
+
+        assertEquals(6, counts.count(TestStatus.FAILED, TestPriority.HIGH));
+        assertEquals(2, counts.count(TestStatus.PASSED, TestPriority.LOW));
+    }
+
+    // Unfiltered estimates come from collection metadata so documents outside the matrix are included
+    @Test
+    void testEstimate_NoFilters_UsesEstimatedCount() {
+        when(repository.estimatedCount()).thenReturn(42L);
+        assertEquals(42L, counts.estimate(null, null));
+    }
+}
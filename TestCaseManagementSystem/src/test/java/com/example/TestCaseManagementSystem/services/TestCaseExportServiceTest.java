@@ -0,0 +1,87 @@
+package com.example.TestCaseManagementSystem.services;
+
+import com.example.TestCaseManagementSystem.dtos.TestCaseDto;
+import com.example.TestCaseManagementSystem.entities.TestCase;
+import com.example.TestCaseManagementSystem.enums.ExportFormat;
+import com.example.TestCaseManagementSystem.enums.TestPriority;
+import com.example.TestCaseManagementSystem.enums.TestStatus;
+import com.example.TestCaseManagementSystem.mappers.TestCaseMapper;
+import com.example.TestCaseManagementSystem.repositories.TestCaseRepository;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TestCaseExportServiceTest {
+
+    @Mock
+    private TestCaseRepository repository;
+
+    // Each document becomes one JSON line and the cursor stream is closed afterwards
+    @Test
+    void testExportTestCases_WritesOneLinePerDocument() throws Exception {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        TestCaseExportService service = new TestCaseExportService(repository, new TestCaseMapper(), objectMapper, 100, Duration.ofMinutes(30));
+        AtomicBoolean closed = new AtomicBoolean();
+        Stream<TestCase> cases = Stream.of(
+                TestCase.builder().id("1").title("Login Test").status(TestStatus.FAILED).priority(TestPriority.HIGH)
+                        .createdAt(LocalDateTime.of(2025, 3, 24, 21, 0, 5)).build(),
+                TestCase.builder().id("2").title("Logout Test").status(TestStatus.FAILED).priority(TestPriority.HIGH).build()
+        ).onClose(() -> closed.set(true));
+        when(repository.streamByStatusAndPriority(TestStatus.FAILED, null, 100)).thenReturn(cases);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long exported = service.exportTestCases(TestStatus.FAILED, null, ExportFormat.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, exported);
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{\"id\":\"1\",\"title\":\"Login Test\""));
+        assertTrue(lines[0].contains("\"createdAt\":\"2025-03-24T21:00:05\""));
+        // No root value separator: every line starts with the object, not with a space
+        assertTrue(lines[1].startsWith("{\"id\":\"2\""));
+        assertTrue(out.toString(StandardCharsets.UTF_8).endsWith("}\n"));
+        assertTrue(closed.get());
+    }
+
+    // A Smile export is a stream of self-delimiting values that reads back with the same mapper configuration
+    @Test
+    void testExportTestCases_SmileStreamReadsBack() throws Exception {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        TestCaseExportService service = new TestCaseExportService(repository, new TestCaseMapper(), objectMapper, 100, Duration.ofMinutes(30));
+        when(repository.streamByStatusAndPriority(null, null, 100)).thenReturn(Stream.of(
+                TestCase.builder().id("1").title("Login Test").createdAt(LocalDateTime.of(2025, 3, 24, 21, 0, 5)).build(),
+                TestCase.builder().id("2").title("Logout Test").build()));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertEquals(2, service.exportTestCases(null, null, ExportFormat.SMILE, out));
+
+        try (MappingIterator<TestCaseDto> values = objectMapper.copyWith(new SmileFactory())
+                .readerFor(TestCaseDto.class).readValues(out.toByteArray())) {
+            List<TestCaseDto> read = values.readAll();
+            assertEquals(List.of("Login Test", "Logout Test"), read.stream().map(TestCaseDto::getTitle).toList());
+            assertEquals(LocalDateTime.of(2025, 3, 24, 21, 0, 5), read.get(0).getCreatedAt());
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.TestCaseManagementSystem.services;
+
+import com.example.TestCaseManagementSystem.dtos.ImportReportDto;
+import com.example.TestCaseManagementSystem.entities.TestCase;
+import com.example.TestCaseManagementSystem.enums.TestPriority;
+import com.example.TestCaseManagementSystem.enums.TestStatus;
+import com.example.TestCaseManagementSystem.mappers.TestCaseMapper;
+import com.example.TestCaseManagementSystem.repositories.TestCaseRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TestCaseImportServiceTest {
+
+    @Mock
+    private TestCaseRepository repository;
+
+    @Mock
+    private TestCaseCounts counts;
+
+    @Mock
+    private TestCasePageCache pageCache;
+
+    @Mock
+    private TestCaseTitleIndex titleIndex;
+
+    private TestCaseImportService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new TestCaseImportService(repository, new TestCaseMapper(), counts, pageCache, titleIndex,
+                Validation.buildDefaultValidatorFactory().getValidator(), new ObjectMapper(),
+                new TaskExecutorAdapter(new SyncTaskExecutor()), 2, 1, 10);
+    }
+
+    // A batch size or in-flight limit below 1 would stall the import, so it fails at startup
+    @Test
+    void testConstructor_RejectsNonPositiveLimits() {
+        assertThrows(IllegalArgumentException.class, () -> new TestCaseImportService(repository, new TestCaseMapper(),
+                counts, pageCache, titleIndex, Validation.buildDefaultValidatorFactory().getValidator(),
+                new ObjectMapper(), new TaskExecutorAdapter(new SyncTaskExecutor()), 0, 1, 10));
+        assertThrows(IllegalArgumentException.class, () -> new TestCaseImportService(repository, new TestCaseMapper(),
+                counts, pageCache, titleIndex, Validation.buildDefaultValidatorFactory().getValidator(),
+                new ObjectMapper(), new TaskExecutorAdapter(new SyncTaskExecutor()), 2, 0, 10));
+    }
+
+    private static InputStream body(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Malformed and invalid lines are reported by row, valid ones are inserted in batches and counted
+    @Test
+    @SuppressWarnings("unchecked")
+    void testImportNdjson_ReportsBadRowsAndBatchesTheRest() throws Exception {
+        when(repository.bulkInsert(anyList())).thenReturn(Map.of()).thenReturn(Map.of(0, "E11000 duplicate key"));
+
+        ImportReportDto report = service.importNdjson(body("""
+                {"title":"First","status":"PENDING","priority":"HIGH"}
+                {"title":" "}
+                not json
+                null
+
+                {"title":"Second","status":"PASSED","priority":"LOW"}
+                {"title":"Third","status":"FAILED","priority":"LOW"}
+                """));
+
+        ArgumentCaptor<List<TestCase>> batches = ArgumentCaptor.forClass(List.class);
+        verify(repository, times(2)).bulkInsert(batches.capture());
+        assertEquals(List.of(2, 1), batches.getAllValues().stream().map(List::size).toList());
+        assertNotNull(batches.getAllValues().get(0).get(0).getId());
+        assertEquals(6, report.getRows());
+        assertEquals(2, report.getImported());
+        assertEquals(4, report.getFailed());
+        assertEquals(List.of(2L, 3L, 4L, 6L), report.getErrors().stream().map(e -> e.getRow()).toList());
+        assertEquals("Title is required", report.getErrors().get(0).getMessage());
+        assertTrue(report.getErrors().get(2).getMessage().startsWith("Malformed row"));
+        assertEquals("E11000 duplicate key", report.getErrors().get(3).getMessage());
+        verify(counts).increment(TestStatus.PENDING, TestPriority.HIGH);
+        verify(counts).increment(TestStatus.PASSED, TestPriority.LOW);
+        verifyNoMoreInteractions(counts);
+    }
+
+    // CSV rows are read by header name and an unknown enum value only fails its own row
+    @Test
+    void testImportCsv_ContinuesPastBadRow() throws Exception {
+        when(repository.bulkInsert(anyList())).thenReturn(Map.of());
+
+        ImportReportDto report = service.importCsv(body("""
+                title,description,status,priority
+                Login Test,"Checks login, with a comma",PENDING,HIGH
+                Logout Test,,BOGUS,LOW
+                Signup Test,,PASSED,MEDIUM
+                """));
+
+        assertEquals(3, report.getRows());
+        assertEquals(2, report.getImported());
+        assertEquals(1, report.getErrors().size());
+        assertEquals(2, report.getErrors().get(0).getRow());
+    }
+
+    // The report keeps at most the configured number of errors but still counts every failure
+    @Test
+    void testImportNdjson_TruncatesErrors() throws Exception {
+        ImportReportDto report = service.importNdjson(body("{\"title\":\"\"}\n".repeat(12)));
+
+        assertEquals(12, report.getFailed());
+        assertEquals(10, report.getErrors().size());
+        assertTrue(report.isErrorsTruncated());
+        verifyNoInteractions(repository);
+    }
+}
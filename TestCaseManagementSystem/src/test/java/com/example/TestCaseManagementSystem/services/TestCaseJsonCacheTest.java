@@ -0,0 +1,81 @@
+package com.example.TestCaseManagementSystem.services;
+
+import com.example.TestCaseManagementSystem.apiresponses.StandardApiResponse;
+import com.example.TestCaseManagementSystem.dtos.TestCaseDto;
+import com.example.TestCaseManagementSystem.enums.TestPriority;
+import com.example.TestCaseManagementSystem.enums.TestStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestCaseJsonCacheTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private final TestCaseJsonCache cache = new TestCaseJsonCache(objectMapper, 100);
+
+    private static TestCaseDto dto(String id, Long version) {
+        TestCaseDto dto = new TestCaseDto();
+        dto.setId(id);
+        dto.setTitle("Login \"Test\" ✓");
+        dto.setStatus(TestStatus.PASSED);
+        dto.setPriority(TestPriority.HIGH);
+        dto.setUpdatedAt(LocalDateTime.of(2025, 3, 24, 21, 0, 5));
+        dto.setVersion(version);
+        return dto;
+    }
+
+    private static <T> StandardApiResponse<T> response(T body) {
+        return new StandardApiResponse<>(1, 200, "Test case retrieved successfully", body);
+    }
+
+    // Spliced bytes produce exactly the JSON of the DTO, and the second response is served from the cache
+    @Test
+    void testWrap_SplicesCachedJson() throws Exception {
+        TestCaseDto testCase = dto("1", 3L);
+        byte[] expected = objectMapper.writeValueAsBytes(response(List.of(testCase)));
+
+        assertArrayEquals(expected, objectMapper.writeValueAsBytes(response(List.of(cache.wrap(testCase)))));
+        assertArrayEquals(expected, objectMapper.writeValueAsBytes(response(List.of(cache.wrap(testCase)))));
+
+        assertEquals(1, cache.stats().getMissCount());
+        assertEquals(1, cache.stats().getHitCount());
+    }
+
+    // A new version is a new key, so the previous bytes are never served for it
+    @Test
+    void testWrap_NewVersionIsEncodedAgain() throws Exception {
+        objectMapper.writeValueAsBytes(cache.wrap(dto("1", 3L)));
+        TestCaseDto updated = dto("1", 4L);
+        updated.setTitle("Renamed");
+
+        assertArrayEquals(objectMapper.writeValueAsBytes(updated), objectMapper.writeValueAsBytes(cache.wrap(updated)));
+        assertEquals(2, cache.stats().getMissCount());
+        assertEquals(2, cache.stats().getEstimatedSize());
+    }
+
+    // Binary formats, character output and unversioned test cases are serialized normally without the cache
+    @Test
+    void testWrap_FallsBackWithoutCaching() throws Exception {
+        ObjectMapper smileMapper = objectMapper.copyWith(new SmileFactory());
+        TestCaseDto testCase = dto("1", 3L);
+        byte[] smile = smileMapper.writeValueAsBytes(response(cache.wrap(testCase)));
+        assertArrayEquals(smileMapper.writeValueAsBytes(response(testCase)), smile);
+        assertEquals(objectMapper.writeValueAsString(testCase), objectMapper.writeValueAsString(cache.wrap(testCase)));
+
+        TestCaseDto pending = dto("2", null);
+        assertArrayEquals(objectMapper.writeValueAsBytes(pending), objectMapper.writeValueAsBytes(cache.wrap(pending)));
+
+        assertEquals(0, cache.stats().getMissCount());
+        assertEquals(0, cache.stats().getEstimatedSize());
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.TestCaseManagementSystem.services;
+
+import com.example.TestCaseManagementSystem.dtos.TestCaseDto;
+import com.example.TestCaseManagementSystem.enums.TestPriority;
+import com.example.TestCaseManagementSystem.enums.TestStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestCasePageCacheTest {
+
+    private final PageRequest pageable = PageRequest.of(0, 10);
+
+    private TestCasePageCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = new TestCasePageCache(100, Duration.ofMinutes(1));
+        loads = new AtomicInteger();
+    }
+
+    private Page<TestCaseDto> get(TestStatus status, TestPriority priority) {
+        return cache.get(status, priority, pageable, () -> {
+            loads.incrementAndGet();
+            return new PageImpl<>(List.of(), pageable, 0);
+        });
+    }
+
+    // A write only evicts pages whose filter covers the written cell
+    @Test
+    void testInvalidate_OnlyAffectsCoveringFilters() {
+        get(TestStatus.FAILED, TestPriority.HIGH);
+        get(TestStatus.FAILED, null);
+        get(TestStatus.PASSED, null);
+        get(null, null);
+        assertEquals(4, loads.get());
+
+        cache.invalidate(TestStatus.FAILED, TestPriority.LOW);
+
+        get(TestStatus.FAILED, TestPriority.HIGH);
+        get(TestStatus.PASSED, null);
+        assertEquals(4, loads.get());
+        get(TestStatus.FAILED, null);
+        get(null, null);
+        assertEquals(6, loads.get());
+    }
+
+    // Documents without a status still invalidate the unfiltered and priority-filtered pages
+    @Test
+    void testInvalidate_NullStatusCell() {
+        get(null, TestPriority.HIGH);
+        get(TestStatus.PENDING, TestPriority.HIGH);
+
+        cache.invalidate(null, TestPriority.HIGH);
+
+        get(null, TestPriority.HIGH);
+        get(TestStatus.PENDING, TestPriority.HIGH);
+        assertEquals(3, loads.get());
+    }
+
+    // Moving a document between cells invalidates both its old and its new pages
+    @Test
+    void testInvalidate_MoveTouchesBothCells() {
+        get(TestStatus.PENDING, TestPriority.HIGH);
+        get(TestStatus.PASSED, TestPriority.HIGH);
+
+        cache.invalidate(TestStatus.PENDING, TestPriority.HIGH, TestStatus.PASSED, TestPriority.HIGH);
+
+        get(TestStatus.PENDING, TestPriority.HIGH);
+        get(TestStatus.PASSED, TestPriority.HIGH);
+        assertEquals(4, loads.get());
+        assertEquals(0, cache.stats().getHitCount());
+    }
+}
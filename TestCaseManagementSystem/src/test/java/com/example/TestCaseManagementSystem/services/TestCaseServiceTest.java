@@ -1,26 +1,47 @@
 package com.example.TestCaseManagementSystem.services;
 
+import com.example.TestCaseManagementSystem.apiresponses.CursorPage;
+import com.example.TestCaseManagementSystem.dtos.TestCaseDateFilter;
 import com.example.TestCaseManagementSystem.dtos.TestCaseDto;
+import com.example.TestCaseManagementSystem.dtos.TestCaseFacets;
+import com.example.TestCaseManagementSystem.dtos.TestCaseFacetsDto;
+import com.example.TestCaseManagementSystem.dtos.TestCasePatchDto;
 import com.example.TestCaseManagementSystem.dtos.TestCaseRequestDto;
+import com.example.TestCaseManagementSystem.dtos.TestCaseStamp;
 import com.example.TestCaseManagementSystem.entities.TestCase;
+import com.example.TestCaseManagementSystem.enums.TestCaseField;
+import com.example.TestCaseManagementSystem.enums.TestCaseSortKey;
 import com.example.TestCaseManagementSystem.enums.TestPriority;
 import com.example.TestCaseManagementSystem.enums.TestStatus;
+import com.example.TestCaseManagementSystem.exceptions.BadRequestException;
+import com.example.TestCaseManagementSystem.exceptions.ConflictException;
 import com.example.TestCaseManagementSystem.exceptions.ResourceNotFoundException;
+import com.example.TestCaseManagementSystem.mappers.TestCaseMapper;
+import com.example.TestCaseManagementSystem.pagination.CursorToken;
 import com.example.TestCaseManagementSystem.repositories.TestCaseRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.*;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.Pair;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 @Slf4j
@@ -31,11 +52,33 @@ class TestCaseServiceTest {
     private TestCaseRepository repository;
 
     @Mock
-    private ModelMapper modelMapper;
+    private TestCaseMapper mapper;
+
+    @Mock
+    private TestCaseCounts counts;
+
+    @Spy
+    private TestCaseCache cache = new TestCaseCache(100, Duration.ofMinutes(10));
+
+    @Spy
+    private TestCasePageCache pageCache = new TestCasePageCache(100, Duration.ofMinutes(1));
+
+    @Mock
+    private TestCaseTitleIndex titleIndex;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private TestCaseWriteBehindBuffer writeBehind;
 
-    @InjectMocks
     private TestCaseService service;
 
+    @BeforeEach
+    void setUp() {
+        writeBehind = new TestCaseWriteBehindBuffer(repository, counts, cache, pageCache, titleIndex, true, 100);
+        service = new TestCaseService(repository, mapper, counts, cache, pageCache, titleIndex, writeBehind,
+                new TestCaseMetrics(meterRegistry), 3);
+    }
+
     // Test for getTestCaseById when not found
     @Test
     void testGetTestCaseById_NotFound() {
@@ -59,13 +102,76 @@ class TestCaseServiceTest {
         TestCaseDto testCaseDto = new TestCaseDto();
 
         when(repository.findById(id)).thenReturn(Optional.of(testCase));
-        when(modelMapper.map(testCase, TestCaseDto.class)).thenReturn(testCaseDto);
+        when(mapper.toDto(testCase)).thenReturn(testCaseDto);
 
         TestCaseDto result = service.getTestCaseById(id);
         assertNotNull(result);
         verify(repository, times(1)).findById(id);
     }
 
+    // Repeated lookups are served from the cache until an update invalidates the entry
+    @Test
+    void testGetTestCaseById_CachedUntilUpdated() {
+        String id = "1";
+        TestCase testCase = TestCase.builder()
+                .id(id)
+                .title("Cached Test")
+                .status(TestStatus.PENDING)
+                .priority(TestPriority.HIGH)
+                .build();
+        TestCaseRequestDto dto = new TestCaseRequestDto();
+        dto.setTitle("Updated Test");
+
+        when(repository.findById(id)).thenReturn(Optional.of(testCase));
+        when(mapper.toDto(testCase)).thenReturn(new TestCaseDto());
+        when(repository.save(testCase)).thenReturn(testCase);
+
+        service.getTestCaseById(id);
+        service.getTestCaseById(id);
+        verify(repository, times(1)).findById(id);
+
+        service.updateTestCase(id, dto, null);
+        service.getTestCaseById(id);
+        verify(repository, times(3)).findById(id);
+        assertEquals(1, service.getCacheStats().get("testCases").getHitCount());
+    }
+
+    // Validators come from the cached test case when present, otherwise from the projection
+    @Test
+    void testGetTestCaseStamp_CacheThenProjection() {
+        LocalDateTime updatedAt = LocalDateTime.of(2025, 3, 24, 21, 0);
+        when(repository.findStampById("1")).thenReturn(Optional.of(TestCase.builder().id("1").updatedAt(updatedAt).version(4L).build()));
+        TestCaseDto cached = new TestCaseDto();
+        cached.setId("2");
+        cached.setUpdatedAt(updatedAt);
+        cached.setVersion(7L);
+        cache.get("2", id -> cached);
+
+        assertEquals(new TestCaseStamp("1", updatedAt, 4L), service.getTestCaseStamp("1"));
+        assertEquals(new TestCaseStamp("2", updatedAt, 7L), service.getTestCaseStamp("2"));
+        verify(repository, never()).findStampById("2");
+        verify(repository, never()).findById(anyString());
+    }
+
+    // Sparse reads are trimmed from the cache when possible and projected in Mongo otherwise
+    @Test
+    void testGetTestCaseFieldsById_CacheThenProjection() {
+        TestCaseMapper realMapper = new TestCaseMapper();
+        when(mapper.toDto(any(TestCase.class))).thenAnswer(invocation -> realMapper.toDto(invocation.getArgument(0)));
+        when(mapper.toFieldMap(any(TestCaseDto.class), anySet())).thenAnswer(invocation -> realMapper.toFieldMap(invocation.getArgument(0), invocation.getArgument(1)));
+        when(repository.findProjectedById(eq("1"), eq(List.of("id", "status"))))
+                .thenReturn(Optional.of(TestCase.builder().id("1").status(TestStatus.FAILED).build()));
+        TestCaseDto cached = new TestCaseDto();
+        cached.setId("2");
+        cached.setStatus(TestStatus.PASSED);
+        cache.get("2", id -> cached);
+
+        assertEquals(Map.of("id", "1", "status", TestStatus.FAILED), service.getTestCaseFieldsById("1", TestCaseField.parseAll("status")));
+        assertEquals(Map.of("id", "2", "status", TestStatus.PASSED), service.getTestCaseFieldsById("2", TestCaseField.parseAll("status")));
+        verify(repository, never()).findProjectedById(eq("2"), anyList());
+        verify(repository, never()).findById(anyString());
+    }
+
     // Test for createTestCase
     @Test
     void testCreateTestCase() {
@@ -95,13 +201,14 @@ class TestCaseServiceTest {
         TestCaseDto expectedDto = new TestCaseDto();
 
         // Setup expectations
-        when(modelMapper.map(requestDto, TestCase.class)).thenReturn(testCase);
+        when(mapper.toEntity(requestDto)).thenReturn(testCase);
         when(repository.save(testCase)).thenReturn(savedTestCase);
-        when(modelMapper.map(savedTestCase, TestCaseDto.class)).thenReturn(expectedDto);
+        when(mapper.toDto(savedTestCase)).thenReturn(expectedDto);
 
         TestCaseDto result = service.createTestCase(requestDto);
         assertNotNull(result);
         verify(repository, times(1)).save(testCase);
+        verify(counts, times(1)).increment(TestStatus.PENDING, TestPriority.HIGH);
     }
 
     // Test for updateTestCase when found
@@ -136,14 +243,15 @@ class TestCaseServiceTest {
 
         when(repository.findById(id)).thenReturn(Optional.of(existingTestCase));
         // When mapping from DTO to entity, the mapper updates existingTestCase fields
-        doNothing().when(modelMapper).map(dto, existingTestCase);
+        doNothing().when(mapper).updateEntity(dto, existingTestCase);
         when(repository.save(existingTestCase)).thenReturn(updatedTestCase);
-        when(modelMapper.map(updatedTestCase, TestCaseDto.class)).thenReturn(expectedDto);
+        when(mapper.toDto(updatedTestCase)).thenReturn(expectedDto);
 
-        TestCaseDto result = service.updateTestCase(id, dto);
+        TestCaseDto result = service.updateTestCase(id, dto, null);
         assertNotNull(result);
         verify(repository, times(1)).findById(id);
         verify(repository, times(1)).save(existingTestCase);
+        verify(counts, times(1)).move(TestStatus.PENDING, TestPriority.HIGH, TestStatus.PASSED, TestPriority.MEDIUM);
     }
 
     // Test for updateTestCase when not found
@@ -152,19 +260,129 @@ class TestCaseServiceTest {
         String id = "1";
         TestCaseRequestDto dto = new TestCaseRequestDto();
         when(repository.findById(id)).thenReturn(Optional.empty());
-        assertThrows(RuntimeException.class, () -> service.updateTestCase(id, dto));
+        assertThrows(RuntimeException.class, () -> service.updateTestCase(id, dto, null));
         verify(repository, times(1)).findById(id);
         verify(repository, never()).save(any(TestCase.class));
     }
 
+    // An unconditional update that loses a race is re-applied to the document the other writer left behind
+    @Test
+    void testUpdateTestCase_RetriesConcurrentWrite() {
+        String id = "1";
+        TestCaseRequestDto dto = new TestCaseRequestDto();
+        dto.setTitle("Updated Test");
+        TestCase stale = TestCase.builder().id(id).title("Old Test").version(1L).build();
+        TestCase fresh = TestCase.builder().id(id).title("Old Test").version(2L).build();
+        when(repository.findById(id)).thenReturn(Optional.of(stale), Optional.of(fresh));
+        when(repository.save(stale)).thenThrow(new OptimisticLockingFailureException("version changed"));
+        when(repository.save(fresh)).thenReturn(fresh);
+        when(mapper.toDto(fresh)).thenReturn(new TestCaseDto());
+
+        assertNotNull(service.updateTestCase(id, dto, null));
+        verify(repository, times(2)).findById(id);
+        verify(mapper).updateEntity(dto, fresh);
+    }
+
+    // Retries are bounded; a writer that keeps losing gets a conflict
+    @Test
+    void testUpdateTestCase_GivesUpAfterMaxAttempts() {
+        String id = "1";
+        TestCaseRequestDto dto = new TestCaseRequestDto();
+        when(repository.findById(id)).thenAnswer(invocation -> Optional.of(TestCase.builder().id(id).version(1L).build()));
+        when(repository.save(any(TestCase.class))).thenThrow(new OptimisticLockingFailureException("version changed"));
+
+        assertThrows(ConflictException.class, () -> service.updateTestCase(id, dto, null));
+        verify(repository, times(3)).save(any(TestCase.class));
+        verifyNoInteractions(counts);
+    }
+
+    // With If-Match the update is neither applied to another version nor retried
+    @Test
+    void testUpdateTestCase_ExpectedVersionMismatch() {
+        String id = "1";
+        when(repository.findById(id)).thenReturn(Optional.of(TestCase.builder().id(id).version(5L).build()));
+        assertThrows(ConflictException.class, () -> service.updateTestCase(id, new TestCaseRequestDto(), 4L));
+        verify(repository, never()).save(any(TestCase.class));
+    }
+
+    // A patch is a single findAndModify; the result and the count matrix follow from the previous document
+    @Test
+    void testPatchTestCase_Found() {
+        String id = "1";
+        TestCasePatchDto dto = new TestCasePatchDto();
+        dto.setStatus(TestStatus.FAILED);
+        TestCase previous = TestCase.builder()
+                .id(id)
+                .title("Login Test")
+                .status(TestStatus.PENDING)
+                .priority(TestPriority.HIGH)
+                .version(3L)
+                .build();
+        when(mapper.toUpdate(dto)).thenReturn(new Update().set("status", TestStatus.FAILED));
+        when(repository.findAndModifyById(eq(id), isNull(), any(Update.class))).thenReturn(Optional.of(previous));
+        doCallRealMethod().when(mapper).patchEntity(dto, previous);
+        when(mapper.toDto(previous)).thenAnswer(invocation -> new TestCaseMapper().toDto(previous));
+
+        TestCaseDto result = service.patchTestCase(id, dto, null);
+
+        assertEquals(TestStatus.FAILED, result.getStatus());
+        assertEquals("Login Test", result.getTitle());
+        assertNotNull(result.getUpdatedAt());
+        assertEquals(4L, result.getVersion());
+        verify(repository, never()).findById(anyString());
+        verify(repository, never()).save(any(TestCase.class));
+        verify(counts).move(TestStatus.PENDING, TestPriority.HIGH, TestStatus.FAILED, TestPriority.HIGH);
+        verify(cache).invalidate(id);
+    }
+
+    // A patch without any field is rejected before reaching Mongo
+    @Test
+    void testPatchTestCase_Empty() {
+        TestCasePatchDto dto = new TestCasePatchDto();
+        when(mapper.toUpdate(dto)).thenReturn(new Update());
+        assertThrows(BadRequestException.class, () -> service.patchTestCase("1", dto, null));
+        verifyNoInteractions(repository);
+    }
+
+    // Patching a missing test case is a 404
+    @Test
+    void testPatchTestCase_NotFound() {
+        TestCasePatchDto dto = new TestCasePatchDto();
+        dto.setTitle("Renamed");
+        when(mapper.toUpdate(dto)).thenReturn(new Update().set("title", "Renamed"));
+        when(repository.findAndModifyById(eq("1"), isNull(), any(Update.class))).thenReturn(Optional.empty());
+        assertThrows(ResourceNotFoundException.class, () -> service.patchTestCase("1", dto, null));
+        verifyNoInteractions(counts);
+    }
+
+    // A conditional patch that matches nothing is a conflict while the test case still exists
+    @Test
+    void testPatchTestCase_ExpectedVersionMismatch() {
+        TestCasePatchDto dto = new TestCasePatchDto();
+        dto.setTitle("Renamed");
+        when(mapper.toUpdate(dto)).thenReturn(new Update().set("title", "Renamed"));
+        when(repository.findAndModifyById(eq("1"), eq(4L), any(Update.class))).thenReturn(Optional.empty());
+        when(repository.existsById("1")).thenReturn(true);
+        assertThrows(ConflictException.class, () -> service.patchTestCase("1", dto, 4L));
+        verifyNoInteractions(counts);
+    }
+
     // Test for deleteTestCase
     @Test
     void testDeleteTestCase() {
         String id = "1";
-        // For delete, no return value is expected
-        doNothing().when(repository).deleteById(id);
+        TestCase deleted = TestCase.builder()
+                .id(id)
+                .title("Deleted Test")
+                .status(TestStatus.FAILED)
+                .priority(TestPriority.LOW)
+                .build();
+        when(repository.findAndRemoveById(id)).thenReturn(Optional.of(deleted));
         service.deleteTestCase(id);
-        verify(repository, times(1)).deleteById(id);
+        verify(repository, times(1)).findAndRemoveById(id);
+        verify(counts, times(1)).decrement(TestStatus.FAILED, TestPriority.LOW);
+        verify(cache, times(1)).invalidate(id);
+        verify(pageCache, times(1)).invalidate(TestStatus.FAILED, TestPriority.LOW);
     }
 
     // Test for getTestCases with no filters (pagination test: page 1)
@@ -182,7 +400,7 @@ class TestCaseServiceTest {
         Page<TestCase> page = new PageImpl<>(Collections.singletonList(testCase), pageable, 1);
         when(repository.findAll(pageable)).thenReturn(page);
         TestCaseDto testCaseDto = new TestCaseDto();
-        when(modelMapper.map(testCase, TestCaseDto.class)).thenReturn(testCaseDto);
+        when(mapper.toDto(testCase)).thenReturn(testCaseDto);
 
         Page<TestCaseDto> result = service.getTestCases(null, null, pageable);
         assertNotNull(result);
@@ -206,7 +424,7 @@ class TestCaseServiceTest {
         Page<TestCase> page = new PageImpl<>(Collections.singletonList(testCase), pageable, 11); // total 11 elements so page 2 exists
         when(repository.findByStatus(status, pageable)).thenReturn(page);
         TestCaseDto testCaseDto = new TestCaseDto();
-        when(modelMapper.map(testCase, TestCaseDto.class)).thenReturn(testCaseDto);
+        when(mapper.toDto(testCase)).thenReturn(testCaseDto);
 
         Page<TestCaseDto> result = service.getTestCases(status, null, pageable);
         assertNotNull(result);
@@ -214,6 +432,22 @@ class TestCaseServiceTest {
         verify(repository, times(1)).findByStatus(status, pageable);
     }
 
+    // Each filter combination gets its own query timer; the page mapping is timed separately
+    @Test
+    void testGetTestCases_RecordsQueryAndMappingTimers() {
+        Pageable pageable = PageRequest.of(0, 10);
+        when(repository.findByStatus(TestStatus.PASSED, pageable)).thenReturn(Page.empty(pageable));
+        when(repository.findAll(pageable)).thenReturn(Page.empty(pageable));
+
+        service.getTestCases(TestStatus.PASSED, null, pageable);
+        service.getTestCases(null, null, pageable);
+        service.getTestCases(null, null, pageable);
+
+        assertEquals(1, meterRegistry.get("testcases.query").tag("filter", "status").timer().count());
+        assertEquals(1, meterRegistry.get("testcases.query").tag("filter", "none").timer().count());
+        assertEquals(2, meterRegistry.get("testcases.mapping").tag("target", "page").timer().count());
+    }
+
     @Test
     void testGetTestCases_FilterByPriority_Page2() {
         TestPriority priority = TestPriority.HIGH;
@@ -231,7 +465,7 @@ class TestCaseServiceTest {
         Page<TestCase> page = new PageImpl<>(Collections.singletonList(testCase), pageable, 15);
         when(repository.findByPriority(priority, pageable)).thenReturn(page);
         TestCaseDto testCaseDto = new TestCaseDto();
-        when(modelMapper.map(testCase, TestCaseDto.class)).thenReturn(testCaseDto);
+        when(mapper.toDto(testCase)).thenReturn(testCaseDto);
 
         // Log actual data
         log.info("Executing test case for priority filtering with page 2...");
@@ -256,4 +490,192 @@ class TestCaseServiceTest {
         assertTrue(result.isEmpty());
         verify(repository, times(1)).findAll(pageable);
     }
+
+    // Test for getTestCasesAfter when more elements follow the window
+    @Test
+    void testGetTestCasesAfter_FirstWindow_HasNextCursor() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 24, 21, 0);
+        TestCase first = TestCase.builder().id("1").title("First").createdAt(createdAt).build();
+        TestCase second = TestCase.builder().id("2").title("Second").createdAt(createdAt.plusSeconds(1)).build();
+        TestCase third = TestCase.builder().id("3").title("Third").createdAt(createdAt.plusSeconds(2)).build();
+        when(repository.findAfter(null, null, TestCaseSortKey.CREATED_AT, null, 3)).thenReturn(List.of(first, second, third));
+        when(mapper.toDto(any(TestCase.class))).thenReturn(new TestCaseDto());
+
+        CursorPage<TestCaseDto> result = service.getTestCasesAfter(null, null, TestCaseSortKey.CREATED_AT, "", 2);
+
+        assertEquals(2, result.getContent().size());
+        assertTrue(result.isHasNext());
+        CursorToken next = CursorToken.decode(result.getNextCursor());
+        assertEquals(TestCaseSortKey.CREATED_AT, next.getSortKey());
+        assertEquals(second.getCreatedAt(), next.getValue());
+        assertEquals("2", next.getId());
+    }
+
+    // Test for getTestCasesAfter on the last window: the token's sort key wins over the requested one
+    @Test
+    void testGetTestCasesAfter_LastWindow_NoNextCursor() {
+        String after = new CursorToken(TestCaseSortKey.PRIORITY, TestPriority.HIGH, "2").encode();
+        TestCase last = TestCase.builder().id("3").title("Last").priority(TestPriority.LOW).build();
+        when(repository.findAfter(eq(TestStatus.PENDING), isNull(), eq(TestCaseSortKey.PRIORITY), any(CursorToken.class), eq(11)))
+                .thenReturn(List.of(last));
+        when(mapper.toDto(last)).thenReturn(new TestCaseDto());
+
+        CursorPage<TestCaseDto> result = service.getTestCasesAfter(TestStatus.PENDING, null, TestCaseSortKey.CREATED_AT, after, 10);
+
+        assertEquals(1, result.getContent().size());
+        assertFalse(result.isHasNext());
+        assertNull(result.getNextCursor());
+    }
+
+    // Test for getTestCasesAfter with a tampered cursor
+    @Test
+    void testGetTestCasesAfter_InvalidCursor() {
+        assertThrows(BadRequestException.class,
+                () -> service.getTestCasesAfter(null, null, TestCaseSortKey.CREATED_AT, "not-a-cursor", 10));
+        verifyNoInteractions(repository);
+    }
+
+    // Search results are paged by (score, id); the cursor carries the score of the last result
+    @Test
+    void testSearchTestCases_NextCursorCarriesScore() {
+        TestCase first = TestCase.builder().id("1").title("Login").score(1.5).build();
+        TestCase second = TestCase.builder().id("2").title("Login again").score(0.75).build();
+        when(repository.search("login", TestStatus.FAILED, null, null, 2)).thenReturn(List.of(first, second));
+        when(mapper.toDto(any(TestCase.class))).thenReturn(new TestCaseDto());
+
+        CursorPage<TestCaseDto> result = service.searchTestCases("login", TestStatus.FAILED, null, null, 1);
+
+        assertEquals(1, result.getContent().size());
+        CursorToken next = CursorToken.decode(result.getNextCursor());
+        assertEquals(TestCaseSortKey.SCORE, next.getSortKey());
+        assertEquals(1.5, next.getValue());
+        assertEquals("1", next.getId());
+    }
+
+    // Search needs text, and listing and search cursors are not interchangeable
+    @Test
+    void testSearchTestCases_InvalidRequests() {
+        String listingCursor = new CursorToken(TestCaseSortKey.CREATED_AT, null, "1").encode();
+        String searchCursor = new CursorToken(TestCaseSortKey.SCORE, 1.5, "1").encode();
+        assertThrows(BadRequestException.class, () -> service.searchTestCases(" ", null, null, null, 10));
+        assertThrows(BadRequestException.class, () -> service.searchTestCases("login", null, null, listingCursor, 10));
+        assertThrows(BadRequestException.class, () -> service.getTestCasesAfter(null, null, TestCaseSortKey.CREATED_AT, searchCursor, 10));
+        assertThrows(BadRequestException.class, () -> service.getTestCasesAfter(null, null, TestCaseSortKey.SCORE, null, 10));
+        verifyNoInteractions(repository);
+    }
+
+    // Date-filtered pages go to Mongo every time; without dates the cached listing is used
+    @Test
+    void testGetTestCases_DateFilterBypassesPageCache() {
+        Pageable pageable = PageRequest.of(0, 10);
+        TestCaseDateFilter dates = new TestCaseDateFilter(LocalDateTime.of(2025, 1, 1, 0, 0), null, null, null);
+        TestCase testCase = TestCase.builder().id("1").status(TestStatus.FAILED).build();
+        when(repository.findFiltered(TestStatus.FAILED, null, dates, pageable)).thenReturn(new PageImpl<>(List.of(testCase), pageable, 1));
+        when(repository.findByStatus(TestStatus.FAILED, pageable)).thenReturn(new PageImpl<>(List.of(testCase), pageable, 1));
+        when(mapper.toDto(testCase)).thenReturn(new TestCaseDto());
+
+        service.getTestCases(TestStatus.FAILED, null, dates, pageable);
+        service.getTestCases(TestStatus.FAILED, null, dates, pageable);
+        service.getTestCases(TestStatus.FAILED, null, new TestCaseDateFilter(), pageable);
+        service.getTestCases(TestStatus.FAILED, null, new TestCaseDateFilter(), pageable);
+
+        verify(repository, times(2)).findFiltered(TestStatus.FAILED, null, dates, pageable);
+        verify(repository, times(1)).findByStatus(TestStatus.FAILED, pageable);
+    }
+
+    // Deferred updates coalesce per id and are overlaid on reads until the flush writes the latest one
+    @SuppressWarnings("unchecked")
+    @Test
+    void testDeferTestCaseUpdate_ReadYourWritesUntilFlushed() {
+        TestCaseDto cached = new TestCaseDto();
+        cached.setId("1");
+        cached.setTitle("Login Test");
+        cached.setStatus(TestStatus.PENDING);
+        cached.setPriority(TestPriority.HIGH);
+        cached.setVersion(3L);
+        cache.get("1", id -> cached);
+        TestCaseRequestDto passed = new TestCaseRequestDto();
+        passed.setTitle("Login Test");
+        passed.setStatus(TestStatus.PASSED);
+        passed.setPriority(TestPriority.HIGH);
+        TestCaseRequestDto failed = new TestCaseRequestDto();
+        failed.setTitle("Login Test");
+        failed.setStatus(TestStatus.FAILED);
+        failed.setPriority(TestPriority.HIGH);
+
+        service.deferTestCaseUpdate("1", passed);
+        service.deferTestCaseUpdate("1", failed);
+
+        TestCaseDto read = service.getTestCaseById("1");
+        assertEquals(TestStatus.FAILED, read.getStatus());
+        assertNull(read.getVersion(), "No ETag while the stored version is about to change");
+        assertNull(service.getTestCaseStamp("1").getVersion());
+        assertEquals(TestStatus.PENDING, cached.getStatus(), "The cached test case is not modified");
+        verify(repository, never()).existsById(anyString());
+        verify(repository, never()).bulkUpdate(anyList());
+
+        when(repository.findStatusAndPriorityByIdIn(anyCollection())).thenReturn(List.of(
+                TestCase.builder().id("1").status(TestStatus.PENDING).priority(TestPriority.HIGH).build()));
+        when(repository.bulkUpdate(anyList())).thenReturn(Map.of());
+        writeBehind.flush();
+
+        ArgumentCaptor<List<Pair<String, Update>>> updates = ArgumentCaptor.forClass(List.class);
+        verify(repository, times(1)).bulkUpdate(updates.capture());
+        assertEquals(1, updates.getValue().size());
+        verify(counts).move(TestStatus.PENDING, TestPriority.HIGH, TestStatus.FAILED, TestPriority.HIGH);
+        assertNull(cache.getIfPresent("1"));
+    }
+
+    // An unknown id is rejected up front rather than dropped at flush time
+    @Test
+    void testDeferTestCaseUpdate_NotFound() {
+        when(repository.existsById("missing")).thenReturn(false);
+        assertThrows(ResourceNotFoundException.class, () -> service.deferTestCaseUpdate("missing", new TestCaseRequestDto()));
+        assertFalse(writeBehind.isPending("missing"));
+    }
+
+    // Test for getTestCaseFacets: one repository call yields the page and the counts
+    @Test
+    void testGetTestCaseFacets() {
+        Pageable pageable = PageRequest.of(0, 10);
+        TestCase testCase = TestCase.builder().id("1").status(TestStatus.FAILED).priority(TestPriority.HIGH).build();
+        Map<TestStatus, Long> statusCounts = Map.of(TestStatus.FAILED, 1L);
+        Map<TestPriority, Long> priorityCounts = Map.of(TestPriority.HIGH, 1L);
+        when(repository.findFaceted(TestStatus.FAILED, null, pageable))
+                .thenReturn(new TestCaseFacets(new PageImpl<>(List.of(testCase), pageable, 1), statusCounts, priorityCounts));
+        TestCaseDto dto = new TestCaseDto();
+        dto.setId("1");
+        when(mapper.toDto(testCase)).thenReturn(dto);
+
+        TestCaseFacetsDto result = service.getTestCaseFacets(TestStatus.FAILED, null, pageable);
+
+        assertEquals(List.of(dto), result.getPage().getContent());
+        assertEquals(1, result.getPage().getTotalElements());
+        assertEquals(statusCounts, result.getStatusCounts());
+        assertEquals(priorityCounts, result.getPriorityCounts());
+        verify(repository, times(1)).findFaceted(TestStatus.FAILED, null, pageable);
+        verifyNoMoreInteractions(repository);
+    }
+
+    // Test for getTestCaseSlice: the count query is skipped and the slice only knows whether more follow
+    @Test
+    void testGetTestCaseSlice_FilterByStatusAndPriority_SkipsCount() {
+        Pageable pageable = PageRequest.of(0, 1);
+        TestCase testCase = TestCase.builder()
+                .id("4")
+                .title("Slice Test")
+                .status(TestStatus.FAILED)
+                .priority(TestPriority.HIGH)
+                .build();
+        Slice<TestCase> slice = new SliceImpl<>(Collections.singletonList(testCase), pageable, true);
+        when(repository.readByStatusAndPriority(TestStatus.FAILED, TestPriority.HIGH, pageable)).thenReturn(slice);
+        when(mapper.toDto(testCase)).thenReturn(new TestCaseDto());
+
+        Slice<TestCaseDto> result = service.getTestCaseSlice(TestStatus.FAILED, TestPriority.HIGH, pageable);
+
+        assertEquals(1, result.getNumberOfElements());
+        assertTrue(result.hasNext());
+        verify(repository, never()).findByStatusAndPriority(any(), any(), any());
+        verify(repository, never()).count();
+    }
 }
@@ -0,0 +1,82 @@
+package com.example.TestCaseManagementSystem.services;
+
+import com.example.TestCaseManagementSystem.apiresponses.SyncPage;
+import com.example.TestCaseManagementSystem.dtos.TestCaseDto;
+import com.example.TestCaseManagementSystem.entities.TestCase;
+import com.example.TestCaseManagementSystem.enums.TestCaseSortKey;
+import com.example.TestCaseManagementSystem.exceptions.BadRequestException;
+import com.example.TestCaseManagementSystem.mappers.TestCaseMapper;
+import com.example.TestCaseManagementSystem.pagination.CursorToken;
+import com.example.TestCaseManagementSystem.repositories.TestCaseRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TestCaseSyncServiceTest {
+
+    @Mock
+    private TestCaseRepository repository;
+
+    private TestCaseSyncService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new TestCaseSyncService(repository, new TestCaseMapper(), Duration.ofSeconds(5));
+    }
+
+    // The feed stops short of the settle window and hands out the last (updatedAt, id) as the watermark
+    @Test
+    void testGetChanges_WatermarkIsLastChange() {
+        LocalDateTime since = LocalDateTime.of(2025, 1, 1, 0, 0);
+        TestCase first = TestCase.builder().id("1").updatedAt(since.plusMinutes(1)).build();
+        TestCase second = TestCase.builder().id("2").updatedAt(since.plusMinutes(2)).build();
+        TestCase third = TestCase.builder().id("3").updatedAt(since.plusMinutes(3)).build();
+        ArgumentCaptor<LocalDateTime> until = ArgumentCaptor.forClass(LocalDateTime.class);
+        when(repository.findChanged(eq(since), isNull(), until.capture(), eq(3))).thenReturn(List.of(first, second, third));
+
+        LocalDateTime before = LocalDateTime.now();
+        SyncPage<TestCaseDto> page = service.getChanges(since, null, 2);
+
+        assertFalse(until.getValue().isAfter(LocalDateTime.now().minusSeconds(5)));
+        assertFalse(until.getValue().isBefore(before.minusSeconds(5)));
+        assertEquals(List.of("1", "2"), page.getContent().stream().map(TestCaseDto::getId).toList());
+        assertTrue(page.isHasMore());
+        CursorToken next = CursorToken.decode(page.getNextCursor());
+        assertEquals(TestCaseSortKey.UPDATED_AT, next.getSortKey());
+        assertEquals(since.plusMinutes(2), next.getValue());
+        assertEquals("2", next.getId());
+    }
+
+    // A caught-up feed returns the watermark it was given, so the client can resume from it later
+    @Test
+    void testGetChanges_CaughtUpKeepsWatermark() {
+        String after = new CursorToken(TestCaseSortKey.UPDATED_AT, LocalDateTime.of(2025, 1, 1, 0, 0), "2").encode();
+        when(repository.findChanged(isNull(), any(CursorToken.class), any(LocalDateTime.class), eq(11))).thenReturn(List.of());
+
+        SyncPage<TestCaseDto> page = service.getChanges(null, after, 10);
+
+        assertTrue(page.getContent().isEmpty());
+        assertFalse(page.isHasMore());
+        assertEquals(after, page.getNextCursor());
+    }
+
+    @Test
+    void testGetChanges_InvalidRequests() {
+        String listingCursor = new CursorToken(TestCaseSortKey.CREATED_AT, null, "1").encode();
+        assertThrows(BadRequestException.class, () -> service.getChanges(null, listingCursor, 10));
+        assertThrows(BadRequestException.class, () -> service.getChanges(null, null, 0));
+        verifyNoInteractions(repository);
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.TestCaseManagementSystem.services;
+
+import com.example.TestCaseManagementSystem.dtos.TitleSuggestionDto;
+import com.example.TestCaseManagementSystem.entities.TestCase;
+import com.example.TestCaseManagementSystem.repositories.TestCaseRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TestCaseTitleIndexTest {
+
+    @Mock
+    private TestCaseRepository repository;
+
+    private TestCaseTitleIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TestCaseTitleIndex(repository, 100);
+    }
+
+    private List<String> titles(String query, int limit) {
+        return index.suggest(query, limit).stream().map(TitleSuggestionDto::getTitle).toList();
+    }
+
+    // Seeding streams every title; any word of a title can be completed, shorter words first
+    @Test
+    void testSeed_SuggestsWordPrefixes() {
+        when(repository.streamTitles(100)).thenReturn(Stream.of(
+                TestCase.builder().id("1").title("Login Test").build(),
+                TestCase.builder().id("2").title("Logout Test").build(),
+                TestCase.builder().id("3").title("Payment Processing Test").build(),
+                TestCase.builder().id("4").title("Log rotation").build()));
+        index.seed();
+
+        assertEquals(4, index.size());
+        assertEquals(List.of("Log rotation", "Login Test", "Logout Test"), titles("lo", 10));
+        assertEquals(List.of("Payment Processing Test"), titles("PROC", 10));
+        assertEquals(List.of("Log rotation", "Login Test"), titles("lo", 2));
+        assertEquals(List.of("Logout Test"), titles("test logo", 10));
+        assertEquals(List.of(), titles("signup", 10));
+        assertEquals(List.of(), titles(" - ", 10));
+        assertEquals("2", index.suggest("logout", 1).get(0).getId());
+    }
+
+    // A title matched through several of its words is suggested once
+    @Test
+    void testSuggest_DeduplicatesTitles() {
+        index.put("1", "Cart checkout checks");
+        assertEquals(List.of("Cart checkout checks"), titles("c", 10));
+    }
+
+    // Writes replace and remove titles without a rebuild
+    @Test
+    void testPutAndRemove() {
+        index.put("1", "Login Test");
+        index.put("2", "Signup Test");
+        index.put("1", "Password Reset");
+
+        assertEquals(List.of(), titles("login", 10));
+        assertEquals(List.of("Password Reset"), titles("pass", 10));
+
+        index.remove("2");
+        index.remove("missing");
+        assertEquals(List.of(), titles("signup", 10));
+        assertEquals(1, index.size());
+        assertThrows(IllegalArgumentException.class, () -> index.put(null, "No id"));
+        assertThrows(IllegalArgumentException.class, () -> index.remove(null));
+    }
+
+    // Churn frees slots until the trie is compacted; live titles survive every compaction
+    @Test
+    void testRepeatedUpdates_CompactWithoutLosingTitles() {
+        for (int round = 0; round < 50; round++) {
+            for (int id = 0; id < 100; id++) {
+                index.put(String.valueOf(id), "Case " + id + " round " + round);
+            }
+            for (int id = 100; id < 110; id++) {
+                index.remove(String.valueOf(id));
+            }
+        }
+        assertEquals(100, index.size());
+        assertEquals(List.of("Case 42 round 49"), titles("42 round", 10));
+        List<String> all = titles("round", 100);
+        assertEquals(100, all.size());
+        assertTrue(all.stream().allMatch(title -> title.endsWith("round 49")), "Replaced titles are never suggested");
+    }
+
+    // Writes made while a rebuild scans Mongo are not lost when the rebuilt trie replaces the old one
+    @Test
+    void testRebuild_KeepsWritesMadeDuringScan() {
+        when(repository.streamTitles(100)).thenAnswer(invocation -> {
+            index.put("2", "Created during rebuild");
+            index.remove("3");
+            return Stream.of(
+                    TestCase.builder().id("1").title("Stored title").build(),
+                    TestCase.builder().id("3").title("Deleted during rebuild").build());
+        });
+        index.rebuild();
+
+        assertEquals(List.of("Stored title"), titles("stored", 10));
+        assertEquals(List.of("Created during rebuild"), titles("created", 10));
+        assertEquals(List.of(), titles("deleted", 10));
+    }
+
+    // A failed scan keeps serving the previous titles
+    @Test
+    void testRebuild_FailureKeepsCurrentIndex() {
+        index.put("1", "Login Test");
+        when(repository.streamTitles(100)).thenThrow(new IllegalStateException("connection lost"));
+        assertThrows(IllegalStateException.class, () -> index.rebuild());
+        assertEquals(List.of("Login Test"), titles("login", 10));
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.TestCaseManagementSystem.services;
+
+import com.example.TestCaseManagementSystem.dtos.TestCaseDto;
+import com.example.TestCaseManagementSystem.dtos.TestCaseRequestDto;
+import com.example.TestCaseManagementSystem.entities.TestCase;
+import com.example.TestCaseManagementSystem.enums.TestPriority;
+import com.example.TestCaseManagementSystem.enums.TestStatus;
+import com.example.TestCaseManagementSystem.repositories.TestCaseRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.Pair;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TestCaseWriteBehindBufferTest {
+
+    @Mock
+    private TestCaseRepository repository;
+
+    @Mock
+    private TestCaseCounts counts;
+
+    @Mock
+    private TestCaseCache cache;
+
+    @Mock
+    private TestCasePageCache pageCache;
+
+    @Mock
+    private TestCaseTitleIndex titleIndex;
+
+    private TestCaseWriteBehindBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new TestCaseWriteBehindBuffer(repository, counts, cache, pageCache, titleIndex, true, 2);
+    }
+
+    private static TestCaseRequestDto update(TestStatus status) {
+        TestCaseRequestDto dto = new TestCaseRequestDto();
+        dto.setTitle("Title");
+        dto.setStatus(status);
+        dto.setPriority(TestPriority.LOW);
+        return dto;
+    }
+
+    // Answers the $in read with every requested id at PENDING
+    private void storedAsPending() {
+        when(repository.findStatusAndPriorityByIdIn(anyCollection())).thenAnswer(invocation -> invocation.<Collection<String>>getArgument(0)
+                .stream()
+                .map(id -> TestCase.builder().id(id).status(TestStatus.PENDING).priority(TestPriority.LOW).build())
+                .toList());
+    }
+
+    // Updating an id already pending never grows the buffer; a new id beyond the bound flushes first
+    @Test
+    void testEnqueue_BoundedByMaxPending() {
+        storedAsPending();
+        when(repository.bulkUpdate(anyList())).thenReturn(Map.of());
+
+        buffer.enqueue("1", update(TestStatus.PASSED));
+        buffer.enqueue("2", update(TestStatus.PASSED));
+        buffer.enqueue("2", update(TestStatus.FAILED));
+        verify(repository, never()).bulkUpdate(anyList());
+
+        buffer.enqueue("3", update(TestStatus.FAILED));
+        verify(repository, times(1)).bulkUpdate(argThat(updates -> updates.size() == 2));
+        assertFalse(buffer.isPending("1"));
+        assertTrue(buffer.isPending("3"));
+    }
+
+    // A failed flush keeps the updates, still overlaid on reads, and the retry stamps updatedAt when it writes
+    @SuppressWarnings("unchecked")
+    @Test
+    void testFlush_FailureKeepsUpdates() throws InterruptedException {
+        storedAsPending();
+        when(repository.bulkUpdate(anyList())).thenThrow(new IllegalStateException("connection lost")).thenReturn(Map.of());
+        buffer.enqueue("1", update(TestStatus.FAILED));
+
+        assertThrows(IllegalStateException.class, () -> buffer.flush());
+        assertTrue(buffer.isPending("1"));
+        TestCaseDto stored = new TestCaseDto();
+        stored.setId("1");
+        stored.setStatus(TestStatus.PENDING);
+        TestCaseDto overlaid = buffer.overlay("1", stored);
+        assertEquals(TestStatus.FAILED, overlaid.getStatus());
+
+        Thread.sleep(5);
+        buffer.flush();
+        assertFalse(buffer.isPending("1"));
+        verify(counts, times(1)).move(TestStatus.PENDING, TestPriority.LOW, TestStatus.FAILED, TestPriority.LOW);
+        ArgumentCaptor<List<Pair<String, Update>>> updates = ArgumentCaptor.forClass(List.class);
+        verify(repository, times(2)).bulkUpdate(updates.capture());
+        LocalDateTime written = (LocalDateTime) updates.getValue().get(0).getSecond().getUpdateObject()
+                .get("$set", Map.class).get("updatedAt");
+        assertTrue(written.isAfter(overlaid.getUpdatedAt()));
+    }
+
+    // Deleted test cases lose their pending update, whether deleted here or by another instance
+    @Test
+    void testDiscardAndDeletedTestCases() {
+        when(repository.findStatusAndPriorityByIdIn(anyCollection())).thenReturn(List.of());
+        buffer.enqueue("1", update(TestStatus.FAILED));
+        buffer.enqueue("2", update(TestStatus.FAILED));
+
+        buffer.discard("1");
+        assertFalse(buffer.isPending("1"));
+        buffer.shutdown();
+
+        assertFalse(buffer.isPending("2"));
+        verify(repository, never()).bulkUpdate(anyList());
+        verifyNoInteractions(counts);
+    }
+
+    // Flushing one id writes only that id
+    @Test
+    void testFlushSingleId() {
+        storedAsPending();
+        when(repository.bulkUpdate(anyList())).thenReturn(Map.of());
+        buffer.enqueue("1", update(TestStatus.FAILED));
+        buffer.enqueue("2", update(TestStatus.PASSED));
+
+        buffer.flush("1");
+        buffer.flush("missing");
+
+        verify(repository, times(1)).bulkUpdate(argThat(updates -> updates.size() == 1 && updates.get(0).getFirst().equals("1")));
+        assertTrue(buffer.isPending("2"));
+        verify(titleIndex).put("1", "Title");
+    }
+}
@@ -0,0 +1,193 @@
+package com.example.TestCaseManagementSystem.services;
+
+import com.example.TestCaseManagementSystem.dtos.ExecutionIngestReportDto;
+import com.example.TestCaseManagementSystem.dtos.ImportRowErrorDto;
+import com.example.TestCaseManagementSystem.dtos.TestCaseRequestDto;
+import com.example.TestCaseManagementSystem.dtos.TestExecutionDto;
+import com.example.TestCaseManagementSystem.entities.TestCase;
+import com.example.TestCaseManagementSystem.entities.TestExecution;
+import com.example.TestCaseManagementSystem.enums.TestPriority;
+import com.example.TestCaseManagementSystem.enums.TestStatus;
+import com.example.TestCaseManagementSystem.exceptions.BadRequestException;
+import com.example.TestCaseManagementSystem.mappers.TestExecutionMapper;
+import com.example.TestCaseManagementSystem.repositories.TestCaseRepository;
+import com.example.TestCaseManagementSystem.repositories.TestExecutionRepository;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.Pair;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TestExecutionServiceTest {
+
+    private static final LocalDateTime RUN = LocalDateTime.of(2025, 3, 24, 21, 0);
+
+    @Mock
+    private TestExecutionRepository executionRepository;
+
+    @Mock
+    private TestCaseRepository testCaseRepository;
+
+    @Mock
+    private TestCaseCounts counts;
+
+    @Mock
+    private TestCaseCache cache;
+
+    @Mock
+    private TestCasePageCache pageCache;
+
+    @Mock
+    private TestCaseTitleIndex titleIndex;
+
+    private TestCaseWriteBehindBuffer writeBehind;
+
+    private TestExecutionService service;
+
+    @BeforeEach
+    void setUp() {
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+        writeBehind = new TestCaseWriteBehindBuffer(testCaseRepository, counts, cache, pageCache, titleIndex, true, 100);
+        service = new TestExecutionService(executionRepository, testCaseRepository, new TestExecutionMapper(), counts,
+                cache, pageCache, writeBehind, validator, 100, 10);
+    }
+
+    private static TestExecutionDto result(String testCaseId, TestStatus status, LocalDateTime executedAt) {
+        TestExecutionDto dto = new TestExecutionDto();
+        dto.setTestCaseId(testCaseId);
+        dto.setStatus(status);
+        dto.setDurationMillis(120L);
+        dto.setBuildId("build-1");
+        dto.setExecutedAt(executedAt);
+        return dto;
+    }
+
+    // Every valid result is stored, and each test case gets one write for its latest result in the chunk
+    @SuppressWarnings("unchecked")
+    @Test
+    void testIngest_CoalescesStatusWrites() {
+        when(testCaseRepository.findStatusAndPriorityByIdIn(anyCollection())).thenReturn(List.of(
+                TestCase.builder().id("a").status(TestStatus.PASSED).priority(TestPriority.HIGH).build(),
+                TestCase.builder().id("b").status(TestStatus.PASSED).priority(TestPriority.LOW).build()));
+        when(executionRepository.bulkInsert(anyList())).thenReturn(Map.of());
+        when(testCaseRepository.bulkUpdateIfExecutedBefore(anyList())).thenReturn(Map.of());
+
+        ExecutionIngestReportDto report = service.ingest(List.of(
+                result("a", TestStatus.PASSED, RUN),
+                result("a", TestStatus.FAILED, RUN.plusMinutes(2)),
+                result("a", TestStatus.PASSED, RUN.plusMinutes(1)),
+                result("b", TestStatus.PASSED, RUN),
+                result("missing", TestStatus.FAILED, RUN),
+                result(" ", TestStatus.FAILED, RUN)));
+
+        assertEquals(6, report.getReceived());
+        assertEquals(4, report.getStored());
+        assertEquals(2, report.getRejected());
+        assertEquals(1, report.getStatusUpdates());
+        assertEquals(List.of(new ImportRowErrorDto(4, "Test case not found"), new ImportRowErrorDto(5, "Test case id is required")),
+                report.getErrors());
+
+        ArgumentCaptor<List<Pair<TestExecution, Update>>> updates = ArgumentCaptor.forClass(List.class);
+        verify(testCaseRepository).bulkUpdateIfExecutedBefore(updates.capture());
+        assertEquals(2, updates.getValue().size());
+        assertEquals("a", updates.getValue().get(0).getFirst().getTestCaseId());
+        Map<String, Object> set = updates.getValue().get(0).getSecond().getUpdateObject().get("$set", Map.class);
+        assertEquals(TestStatus.FAILED, set.get("status"));
+        assertEquals(RUN.plusMinutes(2), set.get("lastExecutedAt"));
+        // b keeps its status, so only its lastExecutedAt advances
+        Map<String, Object> unchanged = updates.getValue().get(1).getSecond().getUpdateObject().get("$set", Map.class);
+        assertEquals(Map.of("lastExecutedAt", RUN), unchanged);
+        assertNull(updates.getValue().get(1).getSecond().getUpdateObject().get("$inc"));
+        verify(counts).move(TestStatus.PASSED, TestPriority.HIGH, TestStatus.FAILED, TestPriority.HIGH);
+        verify(cache).invalidateAll(List.of("a"));
+    }
+
+    // Results without a timestamp are stamped at ingest, and an unchanged status touches neither counts nor caches
+    @SuppressWarnings("unchecked")
+    @Test
+    void testIngest_DefaultsExecutedAtAndSkipsUnchangedStatus() {
+        when(testCaseRepository.findStatusAndPriorityByIdIn(anyCollection())).thenReturn(List.of(
+                TestCase.builder().id("a").status(TestStatus.PASSED).build()));
+        ArgumentCaptor<List<TestExecution>> inserted = ArgumentCaptor.forClass(List.class);
+        when(executionRepository.bulkInsert(inserted.capture())).thenReturn(Map.of());
+        when(testCaseRepository.bulkUpdateIfExecutedBefore(anyList())).thenReturn(Map.of());
+
+        ExecutionIngestReportDto report = service.ingest(List.of(result("a", TestStatus.PASSED, null)));
+
+        assertEquals(1, report.getStored());
+        assertEquals(0, report.getStatusUpdates());
+        assertNotNull(inserted.getValue().get(0).getExecutedAt());
+        verifyNoInteractions(counts, cache, pageCache);
+    }
+
+    // A backfilled result older than the stored lastExecutedAt is kept in the history but never changes the status
+    @Test
+    void testIngest_SkipsResultsOlderThanLastExecutedAt() {
+        when(testCaseRepository.findStatusAndPriorityByIdIn(anyCollection())).thenReturn(List.of(
+                TestCase.builder().id("a").status(TestStatus.PASSED).lastExecutedAt(RUN).build()));
+        when(executionRepository.bulkInsert(anyList())).thenReturn(Map.of());
+
+        ExecutionIngestReportDto report = service.ingest(List.of(
+                result("a", TestStatus.FAILED, RUN.minusMinutes(5)),
+                result("a", TestStatus.FAILED, RUN)));
+
+        assertEquals(2, report.getStored());
+        assertEquals(0, report.getStatusUpdates());
+        verify(testCaseRepository, never()).bulkUpdateIfExecutedBefore(anyList());
+        verifyNoInteractions(counts, cache, pageCache);
+    }
+
+    @Test
+    void testConstructor_RejectsNonPositiveBatchSize() {
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+        assertThrows(IllegalArgumentException.class, () -> new TestExecutionService(executionRepository, testCaseRepository,
+                new TestExecutionMapper(), counts, cache, pageCache, writeBehind, validator, 0, 10));
+    }
+
+    // A PUT buffered before the ingest is written first, so the ingested status is the one that stays
+    @Test
+    void testIngest_FlushesBufferedUpdateFirst() {
+        when(testCaseRepository.findStatusAndPriorityByIdIn(anyCollection())).thenReturn(
+                List.of(TestCase.builder().id("a").status(TestStatus.PASSED).priority(TestPriority.HIGH).build()),
+                List.of(TestCase.builder().id("a").status(TestStatus.FAILED).priority(TestPriority.HIGH).build()));
+        when(testCaseRepository.bulkUpdate(anyList())).thenReturn(Map.of());
+        when(executionRepository.bulkInsert(anyList())).thenReturn(Map.of());
+        when(testCaseRepository.bulkUpdateIfExecutedBefore(anyList())).thenReturn(Map.of());
+        TestCaseRequestDto put = new TestCaseRequestDto();
+        put.setTitle("Title");
+        put.setStatus(TestStatus.FAILED);
+        put.setPriority(TestPriority.HIGH);
+        writeBehind.enqueue("a", put);
+
+        ExecutionIngestReportDto report = service.ingest(List.of(result("a", TestStatus.PASSED, RUN)));
+
+        assertEquals(1, report.getStatusUpdates());
+        assertFalse(writeBehind.isPending("a"));
+        InOrder order = inOrder(testCaseRepository);
+        order.verify(testCaseRepository).bulkUpdate(anyList());
+        order.verify(testCaseRepository).bulkUpdateIfExecutedBefore(anyList());
+        verify(counts).move(TestStatus.FAILED, TestPriority.HIGH, TestStatus.PASSED, TestPriority.HIGH);
+    }
+
+    @Test
+    void testGetExecutions_RejectsLimitOutOfRange() {
+        assertThrows(BadRequestException.class, () -> service.getExecutions("a", 0));
+        assertThrows(BadRequestException.class, () -> service.getExecutions("a", 1001));
+        verifyNoInteractions(executionRepository);
+    }
+}